@@ -0,0 +1,77 @@
+package numberguessing;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정답 생성기들의 처리량을 비교한다. 스레드 수는 하위 클래스가 정한다.
+ * <p>
+ * {@link RandomGenerator} 는 모든 스레드가 하나의 인스턴스를 공유하여 여러 세션을 호스팅하는 서버의 상황을 흉내 내고,
+ * 나머지 생성기는 스레드(세션)마다 자신의 인스턴스를 사용한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class GeneratorBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+
+        final RandomGenerator random = new RandomGenerator();
+    }
+
+    @State(Scope.Thread)
+    public static class PerThread {
+
+        final ThreadLocalRandomGenerator threadLocal = new ThreadLocalRandomGenerator();
+        final SplittableRandomGenerator splittable = new SplittableRandomGenerator(Thread.currentThread().getId());
+        final JumpableRandomGenerator jumpable = new JumpableRandomGenerator(Thread.currentThread().getId());
+        final PrefetchingGenerator prefetching =
+                new PrefetchingGenerator(new SplittableRandom(Thread.currentThread().getId()));
+    }
+
+    @Benchmark
+    public int sharedRandom(Shared shared) {
+        return shared.random.generateLessThanOrEqualToHundred();
+    }
+
+    @Benchmark
+    public int threadLocalRandom(PerThread generators) {
+        return generators.threadLocal.generateLessThanOrEqualToHundred();
+    }
+
+    @Benchmark
+    public int splittableRandom(PerThread generators) {
+        return generators.splittable.generateLessThanOrEqualToHundred();
+    }
+
+    @Benchmark
+    public int jumpableRandom(PerThread generators) {
+        return generators.jumpable.generateLessThanOrEqualToHundred();
+    }
+
+    @Benchmark
+    public int prefetching(PerThread generators) {
+        return generators.prefetching.generateLessThanOrEqualToHundred();
+    }
+
+    @Threads(1)
+    public static class SingleThread extends GeneratorBenchmark {
+    }
+
+    @Threads(2)
+    public static class TwoThreads extends GeneratorBenchmark {
+    }
+
+    @Threads(4)
+    public static class FourThreads extends GeneratorBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class AllThreads extends GeneratorBenchmark {
+    }
+}
@@ -0,0 +1,101 @@
+package numberguessing.console;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiplayerBenchmark {
+
+    private static final int ANSWER = 50;
+    private static final String WRONG_GUESS = "30";
+    private static final String CORRECT_GUESS = "50";
+
+    static String playerNames(int players) {
+        return IntStream.range(0, players)
+                .mapToObj(i -> "Player" + i)
+                .collect(Collectors.joining(", "));
+    }
+
+    @State(Scope.Thread)
+    public static class Game {
+
+        @Param({"2", "10", "100"})
+        int players;
+
+        @Param({"1", "10", "100"})
+        int guesses;
+
+        String names;
+
+        @Setup
+        public void setUp() {
+            names = playerNames(players);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RunningGame {
+
+        @Param({"2", "10", "100", "10000"})
+        int players;
+
+        @Param({"ROUND_ROBIN", "SIMULTANEOUS"})
+        TurnScheduler.Kind scheduler;
+
+        AppModel model;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            model = new AppModel((lowerBound, upperBound) -> ANSWER, NumberRange.DEFAULT, null, GameListener.NONE,
+                    TurnScheduler.of(scheduler, 0));
+            model.processInput("2");
+            model.processInput(playerNames(players));
+            model.flushOutput();
+        }
+    }
+
+    /**
+     * 플레이어 등록부터 정답까지 한 게임 전체를 진행한다. 매 턴마다 App 처럼 출력을 비운다.
+     */
+    @Benchmark
+    public void playGame(Game game, Blackhole blackhole) {
+        AppModel model = new AppModel((lowerBound, upperBound) -> ANSWER);
+        blackhole.consume(model.flushOutput());
+        model.processInput("2");
+        blackhole.consume(model.flushOutput());
+        model.processInput(game.names);
+        blackhole.consume(model.flushOutput());
+        for (int i = 1; i < game.guesses; i++) {
+            model.processInput(WRONG_GUESS);
+            blackhole.consume(model.flushOutput());
+        }
+        model.processInput(CORRECT_GUESS);
+        blackhole.consume(model.flushOutput());
+    }
+
+    /**
+     * 진행 중인 게임에서 오답 한 턴(processInput + flushOutput)의 비용을 측정한다. 플레이어 수와 상관없이 일정해야 한다.
+     */
+    @Benchmark
+    public String wrongGuessTurn(RunningGame game) {
+        game.model.processInput(WRONG_GUESS);
+        return game.model.flushOutput();
+    }
+
+    /**
+     * 진행 중인 게임에서 플레이어 한 명이 참가했다가 떠나는 비용을 측정한다.
+     */
+    @Benchmark
+    public boolean joinAndLeave(RunningGame game) {
+        game.model.addPlayer("Guest");
+        return game.model.removePlayer("Guest");
+    }
+}
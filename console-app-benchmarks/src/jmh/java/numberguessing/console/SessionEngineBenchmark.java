@@ -0,0 +1,90 @@
+package numberguessing.console;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 세션을 호스팅하는 {@link SessionEngine} 의 처리량을 측정한다. 스레드 수는 하위 클래스가 정하며, 세션끼리 경합하지 않으므로
+ * 코어 수까지는 처리량이 스레드 수에 거의 비례해야 한다.
+ * <p>
+ * 모든 스레드가 엔진 하나를 공유하고, 스레드마다 자기 세션들을 돌아가며 한 게임씩 진행한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class SessionEngineBenchmark {
+
+    private static final int ANSWER = 50;
+
+    @State(Scope.Benchmark)
+    public static class Engine {
+
+        final SessionEngine engine = new SessionEngine(() -> (lowerBound, upperBound) -> ANSWER);
+        final AtomicInteger threads = new AtomicInteger();
+    }
+
+    @State(Scope.Thread)
+    public static class Sessions {
+
+        @Param({"100", "10000"})
+        int sessionsPerThread;
+
+        String[] sessionIds;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp(Engine engine) {
+            String prefix = engine.threads.getAndIncrement() + "-";
+            sessionIds = new String[sessionsPerThread];
+            for (int i = 0; i < sessionsPerThread; i++) {
+                sessionIds[i] = prefix + i;
+                engine.engine.createSession(sessionIds[i]);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown(Engine engine) {
+            for (String sessionId : sessionIds) {
+                engine.engine.removeSession(sessionId);
+            }
+        }
+
+        String nextSessionId() {
+            String sessionId = sessionIds[next];
+            next = next + 1 == sessionIds.length ? 0 : next + 1;
+            return sessionId;
+        }
+    }
+
+    /**
+     * 다음 세션에서 모드 선택부터 정답까지 싱글 플레이 한 게임을 진행한다.
+     */
+    @Benchmark
+    public void playGame(Engine engine, Sessions sessions, Blackhole blackhole) {
+        String sessionId = sessions.nextSessionId();
+        blackhole.consume(engine.engine.processInput(sessionId, "1"));
+        blackhole.consume(engine.engine.processInput(sessionId, "30"));
+        blackhole.consume(engine.engine.processInput(sessionId, "50"));
+    }
+
+    @Threads(1)
+    public static class SingleThread extends SessionEngineBenchmark {
+    }
+
+    @Threads(2)
+    public static class TwoThreads extends SessionEngineBenchmark {
+    }
+
+    @Threads(4)
+    public static class FourThreads extends SessionEngineBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class AllThreads extends SessionEngineBenchmark {
+    }
+}
@@ -0,0 +1,105 @@
+package numberguessing.console;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SinglePlayerBenchmark {
+
+    private static final int ANSWER = 50;
+    private static final String WRONG_GUESS = "30";
+    private static final String CORRECT_GUESS = "50";
+    private static final String INVALID_GUESS = "fifty";
+    private static final char[] WRONG_GUESS_CHARS = WRONG_GUESS.toCharArray();
+
+    @State(Scope.Thread)
+    public static class Game {
+
+        @Param({"1", "10", "100"})
+        int guesses;
+    }
+
+    @State(Scope.Thread)
+    public static class RunningGame {
+
+        AppModel model;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            model = new AppModel((lowerBound, upperBound) -> ANSWER);
+            model.processInput("1");
+            model.flushOutput();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RunningGameWithSink {
+
+        AppModel model;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            model = new AppModel((lowerBound, upperBound) -> ANSWER, OutputSink.to(Writer.nullWriter()));
+            model.processInput("1");
+        }
+    }
+
+    /**
+     * 모드 선택부터 정답까지 한 게임 전체를 진행한다. 매 턴마다 App 처럼 출력을 비운다.
+     */
+    @Benchmark
+    public void playGame(Game game, Blackhole blackhole) {
+        AppModel model = new AppModel((lowerBound, upperBound) -> ANSWER);
+        blackhole.consume(model.flushOutput());
+        model.processInput("1");
+        blackhole.consume(model.flushOutput());
+        for (int i = 1; i < game.guesses; i++) {
+            model.processInput(WRONG_GUESS);
+            blackhole.consume(model.flushOutput());
+        }
+        model.processInput(CORRECT_GUESS);
+        blackhole.consume(model.flushOutput());
+    }
+
+    /**
+     * 진행 중인 게임에서 오답 한 턴(processInput + flushOutput)의 비용을 측정한다.
+     */
+    @Benchmark
+    public String wrongGuessTurn(RunningGame game) {
+        game.model.processInput(WRONG_GUESS);
+        return game.model.flushOutput();
+    }
+
+    /**
+     * {@link #wrongGuessTurn} 과 같지만 입력을 {@code char[]} 구간으로 전달한다.
+     */
+    @Benchmark
+    public String wrongGuessTurnFromChars(RunningGame game) {
+        game.model.processInput(WRONG_GUESS_CHARS, 0, WRONG_GUESS_CHARS.length);
+        return game.model.flushOutput();
+    }
+
+    /**
+     * 출력을 내부 버퍼 대신 {@link OutputSink} 로 바로 보내는 오답 한 턴의 비용을 측정한다.
+     */
+    @Benchmark
+    public void wrongGuessTurnToSink(RunningGameWithSink game) {
+        game.model.processInput(WRONG_GUESS);
+    }
+
+    /**
+     * 진행 중인 게임에서 잘못된 추측 한 턴의 비용을 측정한다.
+     */
+    @Benchmark
+    public String invalidGuessTurn(RunningGame game) {
+        game.model.processInput(INVALID_GUESS);
+        return game.model.flushOutput();
+    }
+}
@@ -0,0 +1,57 @@
+package numberguessing.journal;
+
+import numberguessing.console.GameMode;
+import numberguessing.console.GuessResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 게임 스레드에서 본 {@link EventJournal#append} 한 번의 비용을 측정한다. 스레드 수는 하위 클래스가 정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class EventJournalBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Journal {
+
+        Path directory;
+        EventJournal journal;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal-benchmark");
+            journal = new EventJournal(directory);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            journal.close();
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Benchmark
+    public void append(Journal journal) {
+        journal.journal.append(Thread.currentThread().getId(), GameMode.SINGLE_PLAYER, 50, GuessResult.TOO_LOW);
+    }
+
+    @Threads(1)
+    public static class SingleThread extends EventJournalBenchmark {
+    }
+
+    @Threads(4)
+    public static class FourThreads extends EventJournalBenchmark {
+    }
+}
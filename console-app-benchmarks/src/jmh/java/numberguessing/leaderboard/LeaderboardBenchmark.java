@@ -0,0 +1,59 @@
+package numberguessing.leaderboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플레이어가 많은 순위표에 결과 하나를 기록하는 비용과, 기록이 계속 들어오는 중에 상위 10 줄을 조회하는 비용을 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaderboardBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Board {
+
+        @Param({"1000", "100000"})
+        int players;
+
+        Leaderboard leaderboard;
+        String[] names;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            leaderboard = new Leaderboard();
+            names = new String[players];
+            for (int i = 0; i < players; i++) {
+                names[i] = "Player" + i;
+                leaderboard.record(names[i], 1 + i % 10);
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void record(Board board) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        board.leaderboard.record(board.names[random.nextInt(board.players)], 1 + random.nextInt(10));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public void recordWhileQuerying(Board board) {
+        record(board);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public List<PlayerStanding> topTen(Board board) {
+        return board.leaderboard.top(10);
+    }
+}
@@ -0,0 +1,53 @@
+package numberguessing.timer;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타이머가 이미 많이 등록된 휠에 타이머 하나를 등록하고 취소하는 비용과, 한 틱을 옮기는 비용을 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimingWheelBenchmark {
+
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long IDLE_TIMEOUT = TimeUnit.MINUTES.toNanos(30);
+
+    @State(Scope.Thread)
+    public static class Wheel {
+
+        @Param({"1000", "1000000"})
+        int timers;
+
+        TimingWheel<Integer> wheel;
+        long now;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            wheel = new TimingWheel<>(TICK, 0);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < timers; i++) {
+                wheel.schedule(i, IDLE_TIMEOUT + random.nextLong(IDLE_TIMEOUT));
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel(Wheel wheel) {
+        long deadline = wheel.now + IDLE_TIMEOUT + ThreadLocalRandom.current().nextLong(TICK * 64);
+        return wheel.wheel.cancel(wheel.wheel.schedule(-1, deadline));
+    }
+
+    @Benchmark
+    public int advanceOneTick(Wheel wheel) {
+        wheel.now += TICK;
+        // 만료된 타이머는 유휴 시간 뒤로 다시 등록하여 휠에 든 타이머 수를 유지한다.
+        long now = wheel.now;
+        return wheel.wheel.advance(now, value -> wheel.wheel.schedule(value, now + IDLE_TIMEOUT));
+    }
+}
@@ -0,0 +1,69 @@
+package numberguessing;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 난수 생성기에서 편향 없이 구간 안의 정수를 뽑는다.
+ * <p>
+ * 나머지 연산 대신 Lemire 의 곱셈-시프트 방식을 사용한다. 난수 x 와 구간 크기 n 의 곱에서 상위 비트를 결과로 쓰고,
+ * 하위 비트가 {@code 2^k mod n} 보다 작은 드문 경우에만 다시 뽑는다. 구간이 32비트에 들어가면 {@code nextInt()} 하나로,
+ * 그보다 크면 {@code nextLong()} 으로 계산한다.
+ */
+public final class BoundedRandom {
+
+    private static final long INT_RANGE = 1L << 32;
+
+    private BoundedRandom() {
+    }
+
+    /**
+     * @return {@code lowerBound} 이상 {@code upperBound} 이하의 균등 분포 정수
+     * @throws IllegalArgumentException {@code 1 <= lowerBound <= upperBound} 가 아닌 경우
+     */
+    public static long nextLong(RandomGenerator random, long lowerBound, long upperBound) {
+        checkBounds(lowerBound, upperBound);
+        long range = upperBound - lowerBound + 1;
+        if (range <= INT_RANGE) {
+            return lowerBound + nextBelow32(random, range);
+        }
+        return lowerBound + nextBelow64(random, range);
+    }
+
+    static void checkBounds(long lowerBound, long upperBound) {
+        if (lowerBound < 1 || lowerBound > upperBound) {
+            throw new IllegalArgumentException("Invalid bounds: [%d, %d]".formatted(lowerBound, upperBound));
+        }
+    }
+
+    // 0 이상 range 미만, range <= 2^32
+    private static long nextBelow32(RandomGenerator random, long range) {
+        long product = (random.nextInt() & 0xFFFF_FFFFL) * range;
+        long low = product & 0xFFFF_FFFFL;
+        if (low < range) {
+            long threshold = (INT_RANGE - range) % range;
+            while (low < threshold) {
+                product = (random.nextInt() & 0xFFFF_FFFFL) * range;
+                low = product & 0xFFFF_FFFFL;
+            }
+        }
+        return product >>> 32;
+    }
+
+    // 0 이상 range 미만, range > 2^32
+    private static long nextBelow64(RandomGenerator random, long range) {
+        long x = random.nextLong();
+        long low = x * range;
+        if (Long.compareUnsigned(low, range) < 0) {
+            long threshold = Long.remainderUnsigned(-range, range);
+            while (Long.compareUnsigned(low, threshold) < 0) {
+                x = random.nextLong();
+                low = x * range;
+            }
+        }
+        return unsignedMultiplyHigh(x, range);
+    }
+
+    static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+}
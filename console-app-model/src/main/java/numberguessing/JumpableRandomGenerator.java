@@ -0,0 +1,39 @@
+package numberguessing;
+
+import java.util.random.RandomGenerator.JumpableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Xoshiro256++ 알고리즘을 사용하는 생성기. 같은 시드로 만들면 같은 정답을 같은 순서로 생성한다.
+ * {@link #jump()} 는 상태를 2^128 만큼 건너뛰어 겹치지 않는 수열을 가진 생성기를 만든다.
+ */
+public class JumpableRandomGenerator implements PositiveIntegerGenerator {
+
+    private static final RandomGeneratorFactory<JumpableGenerator> FACTORY =
+            RandomGeneratorFactory.of("Xoshiro256PlusPlus");
+
+    private final JumpableGenerator random;
+
+    public JumpableRandomGenerator(long seed) {
+        this(FACTORY.create(seed));
+    }
+
+    private JumpableRandomGenerator(JumpableGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * 현재 수열을 이어받는 생성기를 반환하고, 이 생성기는 다음 구간으로 건너뛴다. 세션마다 한 번씩 호출하면
+     * 세션들이 서로 겹치지 않는 수열을 사용한다.
+     */
+    public JumpableRandomGenerator jump() {
+        JumpableGenerator current = this.random.copy();
+        this.random.jump();
+        return new JumpableRandomGenerator(current);
+    }
+
+    @Override
+    public long generate(long lowerBound, long upperBound) {
+        return BoundedRandom.nextLong(this.random, lowerBound, upperBound);
+    }
+}
@@ -2,6 +2,13 @@ package numberguessing;
 
 public interface PositiveIntegerGenerator {
 
-    int generateLessThanOrEqualToHundred();
+    /**
+     * {@code lowerBound} 이상 {@code upperBound} 이하의 정수를 생성한다. {@code 1 <= lowerBound <= upperBound} 이다.
+     */
+    long generate(long lowerBound, long upperBound);
+
+    default int generateLessThanOrEqualToHundred() {
+        return (int) generate(1, 100);
+    }
 
 }
@@ -0,0 +1,46 @@
+package numberguessing;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 정답을 {@code long[]} 블록 단위로 미리 채워 두고 차례로 꺼내 주는 생성기.
+ * 블록을 채우는 동안 원본 생성기를 연속으로 호출하므로 호출당 비용이 줄어든다. 블록은 마지막으로 요청된 구간 기준으로
+ * 채워지며, 다른 구간이 요청되면 새로 채운다. 같은 구간만 요청하면 원본에서 직접 뽑는 것과 같은 순서로 정답을 생성한다.
+ */
+public class PrefetchingGenerator implements PositiveIntegerGenerator {
+
+    public static final int DEFAULT_BLOCK_SIZE = 256;
+
+    private final RandomGenerator source;
+    private final long[] block;
+    private int index;
+    private long lowerBound;
+    private long upperBound;
+
+    public PrefetchingGenerator(RandomGenerator source) {
+        this(source, DEFAULT_BLOCK_SIZE);
+    }
+
+    public PrefetchingGenerator(RandomGenerator source, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+        }
+        this.source = source;
+        this.block = new long[blockSize];
+        this.index = blockSize;
+    }
+
+    @Override
+    public long generate(long lowerBound, long upperBound) {
+        if (this.index == this.block.length || lowerBound != this.lowerBound || upperBound != this.upperBound) {
+            BoundedRandom.checkBounds(lowerBound, upperBound);
+            for (int i = 0; i < this.block.length; i++) {
+                this.block[i] = BoundedRandom.nextLong(this.source, lowerBound, upperBound);
+            }
+            this.index = 0;
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+        }
+        return this.block[this.index++];
+    }
+}
@@ -0,0 +1,32 @@
+package numberguessing;
+
+import java.util.SplittableRandom;
+
+/**
+ * {@link SplittableRandom} 을 사용하는 생성기. 한 세션 전용으로 쓰며, 같은 시드로 만들면 같은 정답을 같은 순서로 생성한다.
+ * {@link #split()} 으로 다른 세션에 줄 독립된 생성기를 경합 없이 만들 수 있다.
+ */
+public class SplittableRandomGenerator implements PositiveIntegerGenerator {
+
+    private final SplittableRandom random;
+
+    public SplittableRandomGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SplittableRandomGenerator(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * 이 생성기와 통계적으로 독립된 새 생성기를 만든다. 결과는 이 생성기의 시드와 호출 순서에 따라 결정된다.
+     */
+    public SplittableRandomGenerator split() {
+        return new SplittableRandomGenerator(this.random.split());
+    }
+
+    @Override
+    public long generate(long lowerBound, long upperBound) {
+        return BoundedRandom.nextLong(this.random, lowerBound, upperBound);
+    }
+}
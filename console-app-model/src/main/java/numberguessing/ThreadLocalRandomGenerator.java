@@ -0,0 +1,15 @@
+package numberguessing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스레드마다 독립된 {@link ThreadLocalRandom} 을 사용하는 생성기. 공유하는 시드가 없어 여러 스레드에서 동시에 써도
+ * 경합하지 않지만, 시드를 지정할 수 없으므로 결과를 재현할 수 없다.
+ */
+public class ThreadLocalRandomGenerator implements PositiveIntegerGenerator {
+
+    @Override
+    public long generate(long lowerBound, long upperBound) {
+        return BoundedRandom.nextLong(ThreadLocalRandom.current(), lowerBound, upperBound);
+    }
+}
@@ -2,7 +2,12 @@ package numberguessing.console;
 
 import numberguessing.PositiveIntegerGenerator;
 
-import java.util.stream.Stream;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.function.LongSupplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 public class AppModel {
 
@@ -12,113 +17,724 @@ public class AppModel {
             3: Exit
             Enter selection:\040""";
 
+    static final String SINGLE_PLAYER_TITLE = "Single player game\n";
+    static final String THINKING_MESSAGE_FORMAT = "I'm thinking of a number between %d and %d.\n";
+    static final String GUESS_PROMPT = "Enter your guess: \n";
+
+    static final String MULTIPLAYER_SETUP_MESSAGE = """
+            Multiplayer game
+            Enter player names separated with commas:\040""";
+
+    static final String TOO_LOW_MESSAGE = """
+            Your guess is too low.
+            Enter your guess:\040
+            """;
+
+    static final String TOO_HIGH_MESSAGE = """
+            Your guess is too high.
+            Enter your guess:\040
+            """;
+
+    static final String INVALID_GUESS_MESSAGE = """
+            Your guess is invalid.
+            Enter your guess:\040
+            """;
+
+    static final String CORRECT_MESSAGE = "Correct! ";
+    static final String ONE_GUESS_MESSAGE = " guess.\n";
+    static final String GUESSES_MESSAGE = " guesses.\n";
+
+    static final String PLAYER_PROMPT_PREFIX = "Enter ";
+    static final String PLAYER_PROMPT_SUFFIX = "'s guess: ";
+    static final String PLAYER_TOO_LOW_SUFFIX = "'s guess is too low.\n";
+    static final String PLAYER_TOO_HIGH_SUFFIX = "'s guess is too high.\n";
+    static final String PLAYER_INVALID_SUFFIX = "'s guess is invalid.\n";
+    static final String PLAYER_TIMED_OUT_SUFFIX = "'s turn timed out.\n";
+    static final String PLAYER_WINS_SUFFIX = " wins.\n";
+    static final String ALL_PLAYERS_LEFT_MESSAGE = "All players left.\n";
+
+    /**
+     * 스냅샷 형식의 버전. 형식이 바뀌면 올린다.
+     */
+    static final byte SNAPSHOT_VERSION = 2;
+
+    // 버전(1) + 진행 단계(1) + 차례 규칙(1) + 구간 하한(8) + 구간 상한(8) + 제한 시간(8) + 정답(8) + 시도 횟수(4)
+    // + 현재 플레이어(4) + 플레이어 수(4)
+    static final int SNAPSHOT_HEADER_SIZE = 47;
+
+    private static final byte PHASE_MODE_SELECTION = 0;
+    private static final byte PHASE_MULTIPLAYER_SETUP = 1;
+    private static final byte PHASE_SINGLE_PLAYER = 2;
+    private static final byte PHASE_MULTIPLAYER_GAME = 3;
+    private static final byte PHASE_COMPLETED = 4;
+
     @FunctionalInterface
     interface Processor {
 
-        Processor run(String input);
+        Processor run(CharSequence input);
     }
 
 
     private final PositiveIntegerGenerator generator;
-    private final StringBuffer outputBuffer;
+    private final NumberRange range;
+    private final StringBuilder outputBuffer;
+    private final OutputSink output;
+    private final GameListener listener;
+    private final TurnScheduler scheduler;
+    private final boolean recordsLatency;
+
+    // 프로세서는 인스턴스마다 한 번만 만들고, 게임 상태는 아래 필드에 보관하여 턴마다 할당이 일어나지 않도록 한다.
+    private final Processor modeSelectionProcessor = this::processModeSelection;
+    private final Processor multiplayerSetupProcessor = this::processMultiplayerSetup;
+    private final Processor singlePlayerProcessor = this::processSinglePlayerGuess;
+    private final Processor multiplayerGameProcessor = this::processMultiplayerGuess;
+    private final Processor simultaneousGameProcessor = this::processSimultaneousGuess;
+    private final Processor turnProcessor;
+    private final CharArraySequence charInput = new CharArraySequence();
+    private final ByteArraySequence byteInput = new ByteArraySequence();
+    private final CharSequenceSlice lineInput = new CharSequenceSlice();
+    private final GuessParser guessParser = new GuessParser();
+
     private boolean completed;
     private Processor processor;
+    private long answer;
+    private int tries;
+    private Roster roster;
+    private int currentPlayer;
+    private long turnStartedNanos;
 
     public AppModel(PositiveIntegerGenerator generator) {
-        this.completed = false;
-        this.outputBuffer = new StringBuffer(SELECT_MODE_MESSAGE);
+        this(generator, null);
+    }
+
+    /**
+     * 출력을 내부 버퍼에 모으지 않고 {@code output} 으로 바로 보내는 모델을 만든다. 이 경우 {@link #flushOutput()} 은
+     * 항상 빈 문자열을 반환한다. {@code output} 이 {@code null} 이면 내부 버퍼를 사용한다.
+     */
+    public AppModel(PositiveIntegerGenerator generator, OutputSink output) {
+        this(generator, output, GameListener.NONE);
+    }
+
+    /**
+     * 게임이 시작되고 끝날 때마다 {@code listener} 에 알리는 모델을 만든다.
+     */
+    public AppModel(PositiveIntegerGenerator generator, OutputSink output, GameListener listener) {
+        this(generator, NumberRange.DEFAULT, output, listener);
+    }
+
+    /**
+     * 정답을 {@code range} 구간에서 고르는 모델을 만든다.
+     */
+    public AppModel(PositiveIntegerGenerator generator, NumberRange range, OutputSink output, GameListener listener) {
+        this(generator, range, output, listener, TurnScheduler.roundRobin());
+    }
+
+    /**
+     * 멀티 플레이 게임의 차례를 {@code scheduler} 규칙으로 정하는 모델을 만든다.
+     */
+    public AppModel(PositiveIntegerGenerator generator, NumberRange range, OutputSink output, GameListener listener,
+                    TurnScheduler scheduler) {
+        this(generator, range, output, listener, scheduler, PHASE_MODE_SELECTION);
+        this.output.writeMessage(SELECT_MODE_MESSAGE);
+    }
+
+    private AppModel(PositiveIntegerGenerator generator, NumberRange range, OutputSink output, GameListener listener,
+                     TurnScheduler scheduler, byte phase) {
+        this.range = range;
+        this.listener = listener;
+        this.scheduler = scheduler;
+        this.turnProcessor = scheduler.kind() == TurnScheduler.Kind.SIMULTANEOUS
+                ? this.simultaneousGameProcessor
+                : this.multiplayerGameProcessor;
+        this.recordsLatency = listener.recordsLatency();
+        this.outputBuffer = output != null ? null : new StringBuilder();
+        this.output = output != null ? output : OutputSink.to(this.outputBuffer);
         this.generator = generator;
-        this.processor = this::processModeSelection;
+        this.processor = processorFor(phase);
+        this.completed = this.processor == null;
+    }
+
+    /**
+     * {@link #snapshot(ByteBuffer)} 로 저장한 세션을 되살린다. 저장 시점의 출력은 이미 전달된 것으로 보고 아무것도 출력하지 않으며,
+     * 다음 입력부터 저장 시점과 똑같이 처리한다. 제한 시간이 있는 게임은 되살린 시점부터 현재 차례의 시간을
+     * {@link System#nanoTime()} 으로 다시 잰다.
+     *
+     * @throws IllegalArgumentException 스냅샷의 버전이나 내용이 올바르지 않은 경우
+     */
+    public static AppModel restore(PositiveIntegerGenerator generator, ByteBuffer snapshot, OutputSink output,
+                                   GameListener listener) {
+        return restore(generator, snapshot, output, listener, System::nanoTime);
+    }
+
+    /**
+     * 제한 시간이 있는 게임의 차례 시간을 {@code nanoClock} 으로 재는 모델로 스냅샷을 되살린다.
+     *
+     * @param nanoClock {@link TurnScheduler#timed(java.time.Duration, LongSupplier)} 에 넘기는 시계
+     * @see #restore(PositiveIntegerGenerator, ByteBuffer, OutputSink, GameListener)
+     */
+    public static AppModel restore(PositiveIntegerGenerator generator, ByteBuffer snapshot, OutputSink output,
+                                   GameListener listener, LongSupplier nanoClock) {
+        try {
+            byte version = snapshot.get();
+            if (version != SNAPSHOT_VERSION) {
+                throw new IllegalArgumentException("Unsupported snapshot version: " + version);
+            }
+            byte phase = snapshot.get();
+            if (phase < PHASE_MODE_SELECTION || phase > PHASE_COMPLETED) {
+                throw new IllegalArgumentException("Invalid snapshot phase: " + phase);
+            }
+            byte schedulerKind = snapshot.get();
+            if (schedulerKind < 0 || schedulerKind >= TurnScheduler.Kind.values().length) {
+                throw new IllegalArgumentException("Invalid snapshot turn scheduler: " + schedulerKind);
+            }
+            NumberRange range = new NumberRange(snapshot.getLong(), snapshot.getLong());
+            TurnScheduler scheduler = TurnScheduler.of(TurnScheduler.Kind.values()[schedulerKind], snapshot.getLong(),
+                    nanoClock);
+            long answer = snapshot.getLong();
+            int tries = snapshot.getInt();
+            int playerIndex = snapshot.getInt();
+            int playerCount = snapshot.getInt();
+            String[] players = null;
+            long[] roundGuesses = null;
+            if (phase == PHASE_MULTIPLAYER_GAME) {
+                if (playerCount <= 0 || playerIndex < 0 || playerIndex >= playerCount) {
+                    throw new IllegalArgumentException("Invalid snapshot players: " + playerIndex + "/" + playerCount);
+                }
+                players = new String[playerCount];
+                for (int i = 0; i < playerCount; i++) {
+                    byte[] name = new byte[Short.toUnsignedInt(snapshot.getShort())];
+                    snapshot.get(name);
+                    players[i] = new String(name, UTF_8);
+                }
+                int roundGuessCount = snapshot.getInt();
+                int expected = scheduler.kind() == TurnScheduler.Kind.SIMULTANEOUS ? playerIndex : 0;
+                if (roundGuessCount != expected) {
+                    throw new IllegalArgumentException("Invalid snapshot round guesses: " + roundGuessCount);
+                }
+                roundGuesses = new long[roundGuessCount];
+                for (int i = 0; i < roundGuessCount; i++) {
+                    roundGuesses[i] = snapshot.getLong();
+                }
+            }
+            return resume(generator, range, output, listener, scheduler, phase, answer, tries, players, playerIndex,
+                    roundGuesses);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated snapshot", e);
+        }
+    }
+
+    /**
+     * 내부 버퍼에 출력을 모으는 모델로 스냅샷을 되살린다.
+     *
+     * @see #restore(PositiveIntegerGenerator, ByteBuffer, OutputSink, GameListener)
+     */
+    public static AppModel restore(PositiveIntegerGenerator generator, byte[] snapshot) {
+        return restore(generator, ByteBuffer.wrap(snapshot), null, GameListener.NONE);
+    }
+
+    /**
+     * 바깥에 풀어서 보관해 둔 상태로 모델을 다시 만든다. {@link #restore} 처럼 아무것도 출력하지 않는다.
+     * {@code roundGuesses} 는 동시 추측 방식에서 현재 플레이어 앞의 플레이어들이 이번 라운드에 낸 추측이다.
+     */
+    static AppModel resume(PositiveIntegerGenerator generator, NumberRange range, OutputSink output,
+                           GameListener listener, TurnScheduler scheduler, byte phase, long answer, int tries,
+                           String[] players, int playerIndex, long[] roundGuesses) {
+        AppModel model = new AppModel(generator, range, output, listener, scheduler, phase);
+        model.answer = answer;
+        model.tries = tries;
+        if (players != null) {
+            Roster roster = new Roster();
+            for (int i = 0; i < players.length; i++) {
+                int slot = roster.join(players[i]);
+                if (i == playerIndex) {
+                    model.currentPlayer = slot;
+                }
+                if (roundGuesses != null && i < roundGuesses.length) {
+                    roster.setRoundGuess(slot, roundGuesses[i]);
+                }
+            }
+            model.roster = roster;
+            model.turnStartedNanos = scheduler.now();
+        }
+        return model;
     }
 
     public boolean isCompleted() {
         return this.completed;
     }
 
+    byte phase() {
+        return currentPhase();
+    }
+
+    NumberRange range() {
+        return this.range;
+    }
+
+    long answer() {
+        return this.answer;
+    }
+
+    int tries() {
+        return this.tries;
+    }
+
+    TurnScheduler scheduler() {
+        return this.scheduler;
+    }
+
+    /**
+     * 멀티 플레이 게임 중이면 명단 순서대로 플레이어 이름을, 아니면 {@code null} 을 반환한다.
+     */
+    String[] players() {
+        return this.roster != null ? this.roster.names() : null;
+    }
+
+    /**
+     * {@link #players()} 에서 현재 차례인 플레이어의 위치.
+     */
+    int playerIndex() {
+        return this.roster != null ? this.roster.positionOf(this.currentPlayer) : 0;
+    }
+
+    /**
+     * 동시 추측 방식에서 현재 플레이어 앞의 플레이어들이 이번 라운드에 낸 추측. 그 밖에는 {@code null} 을 반환한다.
+     */
+    long[] roundGuesses() {
+        if (this.roster == null || this.scheduler.kind() != TurnScheduler.Kind.SIMULTANEOUS) {
+            return null;
+        }
+        long[] guesses = new long[this.roster.positionOf(this.currentPlayer)];
+        for (int i = 0, slot = this.roster.head(); i < guesses.length; i++, slot = this.roster.next(slot)) {
+            guesses[i] = this.roster.roundGuess(slot);
+        }
+        return guesses;
+    }
+
     public String flushOutput() {
+        if (!this.recordsLatency) {
+            return drainOutputBuffer();
+        }
+        long started = System.nanoTime();
+        String output = drainOutputBuffer();
+        this.listener.outputFlushed(System.nanoTime() - started);
+        return output;
+    }
+
+    private String drainOutputBuffer() {
+        if (this.outputBuffer == null) {
+            return "";
+        }
         String buffer = this.outputBuffer.toString();
         this.outputBuffer.setLength(0);
         return buffer;
     }
 
-    public void processInput(String input) {
-        this.processor = this.processor.run(input);
+    /**
+     * {@link #snapshot(ByteBuffer)} 가 쓰는 바이트 수.
+     */
+    public int snapshotSize() {
+        int size = SNAPSHOT_HEADER_SIZE;
+        String[] players = players();
+        if (players != null) {
+            for (String player : players) {
+                size += Short.BYTES + encodePlayerName(player).length;
+            }
+            long[] roundGuesses = roundGuesses();
+            size += Integer.BYTES + (roundGuesses != null ? roundGuesses.length * Long.BYTES : 0);
+        }
+        return size;
+    }
+
+    /**
+     * 세션 상태를 {@code target} 의 현재 위치부터 고정 레이아웃의 빅 엔디언 레코드로 쓴다. 출력 버퍼의 내용은 포함하지 않는다.
+     * <pre>
+     * version:u8 phase:u8 scheduler:u8 lowerBound:i64 upperBound:i64 turnTimeoutNanos:i64 answer:i64 tries:i32
+     * playerIndex:i32 playerCount:i32
+     * (nameLength:u16 name:UTF-8)*playerCount roundGuessCount:i32 (guess:i64)*roundGuessCount  -- 멀티 플레이 게임 중일 때만
+     * </pre>
+     *
+     * @throws BufferOverflowException {@code target} 의 남은 공간이 {@link #snapshotSize()} 보다 작은 경우
+     */
+    public void snapshot(ByteBuffer target) {
+        if (target.remaining() < snapshotSize()) {
+            throw new BufferOverflowException();
+        }
+        String[] players = players();
+        target.put(SNAPSHOT_VERSION)
+                .put(currentPhase())
+                .put((byte) this.scheduler.kind().ordinal())
+                .putLong(this.range.lowerBound())
+                .putLong(this.range.upperBound())
+                .putLong(this.scheduler.timeoutNanos())
+                .putLong(this.answer)
+                .putInt(this.tries)
+                .putInt(playerIndex())
+                .putInt(players == null ? 0 : players.length);
+        if (players != null) {
+            for (String player : players) {
+                byte[] name = encodePlayerName(player);
+                target.putShort((short) name.length).put(name);
+            }
+            long[] roundGuesses = roundGuesses();
+            target.putInt(roundGuesses != null ? roundGuesses.length : 0);
+            if (roundGuesses != null) {
+                for (long guess : roundGuesses) {
+                    target.putLong(guess);
+                }
+            }
+        }
     }
 
-    private Processor processModeSelection(String input) {
-        if (input.equals("1")) {
-            this.outputBuffer.append("""
-                    Single player game
-                    I'm thinking of a number between 1 and 100.
-                    Enter your guess:\040
-                    """);
-            int answer = generator.generateLessThanOrEqualToHundred();
-            return getSinglePlayerProcessor(answer, 1);
-        } else if (input.equals("2")) {
-            this.outputBuffer.append("""
-                    Multiplayer game
-                    Enter player names separated with commas:\040""");
+    public byte[] snapshot() {
+        ByteBuffer buffer = ByteBuffer.allocate(snapshotSize());
+        snapshot(buffer);
+        return buffer.array();
+    }
+
+    /**
+     * 입력 한 줄을 처리한다. 추측을 입력할 차례에 수로 해석할 수 없는 입력을 받으면 잘못된 추측이라고 알리고 다시 입력받는다.
+     */
+    public void processInput(CharSequence input) {
+        long started = this.recordsLatency ? System.nanoTime() : 0;
+        try {
+            this.processor = this.processor.run(input);
+        } finally {
+            if (this.recordsLatency) {
+                this.listener.inputProcessed(System.nanoTime() - started);
+            }
+        }
+    }
 
-            return startMultiplayerGameProcessor();
+    /**
+     * {@code input[offset, offset + length)} 구간을 한 줄의 입력으로 처리한다. 문자열을 만들지 않는다.
+     */
+    public void processInput(char[] input, int offset, int length) {
+        try {
+            processInput(this.charInput.wrap(input, offset, length));
+        } finally {
+            this.charInput.clear();
+        }
+    }
+
+    /**
+     * {@code input[offset, offset + length)} 구간의 UTF-8 바이트를 한 줄의 입력으로 처리한다. 문자열을 만들지 않는다.
+     */
+    public void processInput(byte[] input, int offset, int length) {
+        try {
+            processInput(this.byteInput.wrap(input, offset, length));
+        } finally {
+            this.byteInput.clear();
+        }
+    }
+
+    /**
+     * 입력을 차례대로 처리한다. 도중에 사용자가 종료를 선택하면 남은 입력은 무시한다.
+     */
+    public void processInputs(Iterable<? extends CharSequence> inputs) {
+        for (CharSequence input : inputs) {
+            if (this.completed) {
+                return;
+            }
+            processInput(input);
+        }
+    }
+
+    /**
+     * 줄바꿈({@code \n} 또는 {@code \r\n})으로 구분된 입력 전체를 줄마다 복사하지 않고 차례대로 처리한다.
+     * 도중에 사용자가 종료를 선택하면 남은 입력은 무시한다.
+     */
+    public void processLines(CharSequence lines) {
+        int length = lines.length();
+        int start = 0;
+        try {
+            while (start < length && !this.completed) {
+                int end = start;
+                while (end < length && lines.charAt(end) != '\n') {
+                    end++;
+                }
+                int lineEnd = end > start && lines.charAt(end - 1) == '\r' ? end - 1 : end;
+                processInput(this.lineInput.wrap(lines, start, lineEnd));
+                start = end + 1;
+            }
+        } finally {
+            this.lineInput.clear();
+        }
+    }
+
+    private Processor processModeSelection(CharSequence input) {
+        if ("1".contentEquals(input)) {
+            this.output.writeMessage(this.range.singlePlayerStartMessage());
+            this.answer = generateAnswer();
+            this.tries = 1;
+            this.listener.gameStarted(GameMode.SINGLE_PLAYER);
+            return this.singlePlayerProcessor;
+        } else if ("2".contentEquals(input)) {
+            this.output.writeMessage(MULTIPLAYER_SETUP_MESSAGE);
+            return this.multiplayerSetupProcessor;
         } else {
             completed = true;
             return null;
         }
     }
 
-    private Processor startMultiplayerGameProcessor() {
-        return input -> {
-            Object[] players = Stream.<String>of(input.split(","))
-                    .map(String::trim)
-                    .toArray();
-            this.outputBuffer.append("I'm thinking of a number between 1 and 100.\n");
-            int answer = generator.generateLessThanOrEqualToHundred();
-            return getMultiplayerGameProcessor(players, answer, 1);
-        };
+    private Processor processMultiplayerSetup(CharSequence input) {
+        this.roster = parsePlayers(input);
+        this.output.writeMessage(this.range.multiplayerStartMessage());
+        this.answer = generateAnswer();
+        this.tries = 0;
+        this.listener.gameStarted(GameMode.MULTIPLAYER);
+        return startTurn(this.roster.head());
     }
 
-    private Processor getMultiplayerGameProcessor(Object[] players, int answer, int tries) {
-        Object player = players[(tries - 1) % players.length];
-        this.outputBuffer.append("Enter %s's guess: ".formatted(player));
-        return input -> {
-            int guess = Integer.parseInt(input);
-            if (guess < answer) {
-                this.outputBuffer.append("%s's guess is too low.\n".formatted(player));
-                return getMultiplayerGameProcessor(players, answer, tries + 1);
-            } else if (guess > answer) {
-                this.outputBuffer.append("%s's guess is too high.\n".formatted(player));
-                return getMultiplayerGameProcessor(players, answer, tries + 1);
-            } else {
-                this.outputBuffer.append("Correct! ");
-                this.outputBuffer.append("%s wins.\n".formatted(player));
-                this.outputBuffer.append(SELECT_MODE_MESSAGE);
-                return this::processModeSelection;
+    // 쉼표로 구분된 이름을 앞뒤 공백을 뺀 채 명단에 넣는다. 같은 이름이 여러 번 나오면 그만큼 차례를 받는다.
+    private static Roster parsePlayers(CharSequence input) {
+        Roster roster = new Roster();
+        int length = input.length();
+        int start = 0;
+        while (true) {
+            int end = start;
+            while (end < length && input.charAt(end) != ',') {
+                end++;
             }
-        };
+            int nameStart = start;
+            int nameEnd = end;
+            while (nameStart < nameEnd && input.charAt(nameStart) <= ' ') {
+                nameStart++;
+            }
+            while (nameEnd > nameStart && input.charAt(nameEnd - 1) <= ' ') {
+                nameEnd--;
+            }
+            roster.join(input.subSequence(nameStart, nameEnd).toString());
+            if (end == length) {
+                return roster;
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * 진행 중인 멀티 플레이 게임의 명단 끝에 플레이어를 추가한다. 동시 추측 방식에서는 이번 라운드부터 참가한다.
+     *
+     * @return 추가했으면 {@code true}, 진행 중인 멀티 플레이 게임이 없으면 {@code false}
+     */
+    public boolean addPlayer(String name) {
+        if (!isMultiplayerGameInProgress()) {
+            return false;
+        }
+        this.roster.join(name);
+        return true;
+    }
+
+    /**
+     * 진행 중인 멀티 플레이 게임에서 플레이어를 뺀다. 현재 차례인 플레이어가 빠지면 다음 플레이어에게 차례를 넘기고,
+     * 아무도 남지 않으면 게임을 끝내고 모드 선택으로 돌아간다.
+     *
+     * @return 뺐으면 {@code true}, 진행 중인 멀티 플레이 게임이 없거나 그런 플레이어가 없으면 {@code false}
+     */
+    public boolean removePlayer(String name) {
+        if (!isMultiplayerGameInProgress()) {
+            return false;
+        }
+        int player = this.roster.slotOf(name);
+        if (player == Roster.NONE) {
+            return false;
+        }
+        int head = this.roster.head();
+        int next = this.roster.next(player);
+        boolean lastInRound = player != head && next == head;
+        this.roster.leave(player);
+        if (this.roster.isEmpty()) {
+            this.roster = null;
+            this.output.writeMessage(ALL_PLAYERS_LEFT_MESSAGE);
+            this.output.writeMessage(SELECT_MODE_MESSAGE);
+            this.processor = this.modeSelectionProcessor;
+        } else if (player == this.currentPlayer) {
+            this.processor = lastInRound && this.turnProcessor == this.simultaneousGameProcessor
+                    ? resolveRound()
+                    : startTurn(next);
+        }
+        return true;
+    }
+
+    /**
+     * 제한 시간이 있는 게임에서 현재 차례의 시간이 지났으면 그 플레이어의 차례를 넘긴다. 입력이 없어도 차례가 넘어가도록
+     * 서버가 주기적으로 호출한다.
+     *
+     * @return 차례를 넘겼으면 {@code true}
+     */
+    public boolean checkTurnTimeout() {
+        if (this.processor != this.multiplayerGameProcessor || !turnTimedOut()) {
+            return false;
+        }
+        this.processor = timeOutTurn();
+        return true;
+    }
+
+    private boolean isMultiplayerGameInProgress() {
+        return this.roster != null && this.processor == this.turnProcessor;
+    }
+
+    private boolean turnTimedOut() {
+        return this.scheduler.kind() == TurnScheduler.Kind.TIMED
+                && this.scheduler.now() - this.turnStartedNanos > this.scheduler.timeoutNanos();
+    }
+
+    private Processor timeOutTurn() {
+        this.output.writeEncoded(this.roster.timedOutMessage(this.currentPlayer));
+        return startTurn(this.roster.next(this.currentPlayer));
     }
 
-    private Processor getSinglePlayerProcessor(int answer, int tries) {
-        return input -> {
-            int guess = Integer.parseInt(input);
-            if (guess < answer) {
-                this.outputBuffer.append("""
-                        Your guess is too low.
-                        Enter your guess:\040
-                        """);
-                return this.getSinglePlayerProcessor(answer, tries + 1);
-            } else if (guess > answer) {
-                this.outputBuffer.append("""
-                        Your guess is too high.
-                        Enter your guess:\040
-                        """);
-                return this.getSinglePlayerProcessor(answer, tries + 1);
-            } else {
-                this.outputBuffer.append("Correct! ")
-                        .append(tries)
-                        .append(tries == 1 ? " guess.\n" : " guesses.\n")
-                        .append(SELECT_MODE_MESSAGE);
-                return this::processModeSelection;
+    private Processor startTurn(int player) {
+        this.currentPlayer = player;
+        if (this.scheduler.kind() == TurnScheduler.Kind.TIMED) {
+            this.turnStartedNanos = this.scheduler.now();
+        }
+        this.output.writeEncoded(this.roster.prompt(player));
+        return this.turnProcessor;
+    }
+
+    // 제한 시간이 지난 뒤에 들어온 입력은 버리고 다음 플레이어에게 차례를 넘긴다.
+    private Processor processMultiplayerGuess(CharSequence input) {
+        if (turnTimedOut()) {
+            return timeOutTurn();
+        }
+        int player = this.currentPlayer;
+        if (this.guessParser.parse(input) != GuessParser.Result.VALID) {
+            return rejectMultiplayerGuess(player);
+        }
+        long guess = this.guessParser.value();
+        this.tries++;
+        GuessResult result = compareWithAnswer(guess);
+        this.listener.guessProcessed(GameMode.MULTIPLAYER, guess, result);
+        if (result == GuessResult.CORRECT) {
+            return finishMultiplayerGame(player);
+        }
+        this.output.writeEncoded(result == GuessResult.TOO_LOW
+                ? this.roster.tooLowMessage(player)
+                : this.roster.tooHighMessage(player));
+        return startTurn(this.roster.next(player));
+    }
+
+    // 라운드의 마지막 플레이어가 추측하면 모인 추측을 명단 순서대로 한꺼번에 판정한다.
+    private Processor processSimultaneousGuess(CharSequence input) {
+        int player = this.currentPlayer;
+        if (this.guessParser.parse(input) != GuessParser.Result.VALID) {
+            return rejectMultiplayerGuess(player);
+        }
+        this.tries++;
+        this.roster.setRoundGuess(player, this.guessParser.value());
+        int next = this.roster.next(player);
+        return next == this.roster.head() ? resolveRound() : startTurn(next);
+    }
+
+    private Processor rejectMultiplayerGuess(int player) {
+        this.listener.inputRejected();
+        this.output.writeEncoded(this.roster.invalidMessage(player));
+        this.output.writeEncoded(this.roster.prompt(player));
+        return this.turnProcessor;
+    }
+
+    private Processor resolveRound() {
+        int winner = Roster.NONE;
+        for (int i = 0, player = this.roster.head(); i < this.roster.size(); i++, player = this.roster.next(player)) {
+            long guess = this.roster.roundGuess(player);
+            GuessResult result = compareWithAnswer(guess);
+            this.listener.guessProcessed(GameMode.MULTIPLAYER, guess, result);
+            if (result == GuessResult.TOO_LOW) {
+                this.output.writeEncoded(this.roster.tooLowMessage(player));
+            } else if (result == GuessResult.TOO_HIGH) {
+                this.output.writeEncoded(this.roster.tooHighMessage(player));
+            } else if (winner == Roster.NONE) {
+                winner = player;
             }
+        }
+        return winner != Roster.NONE ? finishMultiplayerGame(winner) : startTurn(this.roster.head());
+    }
+
+    private Processor finishMultiplayerGame(int winner) {
+        String name = this.roster.name(winner);
+        this.output.writeMessage(CORRECT_MESSAGE);
+        this.output.writeText(name);
+        this.output.writeMessage(PLAYER_WINS_SUFFIX);
+        this.output.writeMessage(SELECT_MODE_MESSAGE);
+        this.roster = null;
+        this.listener.gameFinished(new GameResult(GameMode.MULTIPLAYER, this.tries, name));
+        return this.modeSelectionProcessor;
+    }
+
+    private GuessResult compareWithAnswer(long guess) {
+        if (guess < this.answer) {
+            return GuessResult.TOO_LOW;
+        } else if (guess > this.answer) {
+            return GuessResult.TOO_HIGH;
+        } else {
+            return GuessResult.CORRECT;
+        }
+    }
+
+    private Processor processSinglePlayerGuess(CharSequence input) {
+        if (this.guessParser.parse(input) != GuessParser.Result.VALID) {
+            this.listener.inputRejected();
+            this.output.writeMessage(INVALID_GUESS_MESSAGE);
+            return this.singlePlayerProcessor;
+        }
+        long guess = this.guessParser.value();
+        if (guess < answer) {
+            this.listener.guessProcessed(GameMode.SINGLE_PLAYER, guess, GuessResult.TOO_LOW);
+            this.output.writeMessage(TOO_LOW_MESSAGE);
+            this.tries++;
+            return this.singlePlayerProcessor;
+        } else if (guess > answer) {
+            this.listener.guessProcessed(GameMode.SINGLE_PLAYER, guess, GuessResult.TOO_HIGH);
+            this.output.writeMessage(TOO_HIGH_MESSAGE);
+            this.tries++;
+            return this.singlePlayerProcessor;
+        } else {
+            this.listener.guessProcessed(GameMode.SINGLE_PLAYER, guess, GuessResult.CORRECT);
+            this.output.writeMessage(CORRECT_MESSAGE);
+            this.output.writeNumber(tries);
+            this.output.writeMessage(tries == 1 ? ONE_GUESS_MESSAGE : GUESSES_MESSAGE);
+            this.output.writeMessage(SELECT_MODE_MESSAGE);
+            this.listener.gameFinished(new GameResult(GameMode.SINGLE_PLAYER, tries, null));
+            return this.modeSelectionProcessor;
+        }
+    }
+
+    private byte currentPhase() {
+        if (this.processor == this.modeSelectionProcessor) {
+            return PHASE_MODE_SELECTION;
+        } else if (this.processor == this.multiplayerSetupProcessor) {
+            return PHASE_MULTIPLAYER_SETUP;
+        } else if (this.processor == this.singlePlayerProcessor) {
+            return PHASE_SINGLE_PLAYER;
+        } else if (this.processor == this.turnProcessor) {
+            return PHASE_MULTIPLAYER_GAME;
+        } else {
+            return PHASE_COMPLETED;
+        }
+    }
+
+    private Processor processorFor(byte phase) {
+        return switch (phase) {
+            case PHASE_MODE_SELECTION -> this.modeSelectionProcessor;
+            case PHASE_MULTIPLAYER_SETUP -> this.multiplayerSetupProcessor;
+            case PHASE_SINGLE_PLAYER -> this.singlePlayerProcessor;
+            case PHASE_MULTIPLAYER_GAME -> this.turnProcessor;
+            default -> null;
         };
     }
+
+    // 이름 길이는 u16 으로 기록하므로 그보다 긴 이름은 스냅샷에 담을 수 없다.
+    private static byte[] encodePlayerName(String player) {
+        byte[] name = player.getBytes(UTF_8);
+        if (name.length > 0xFFFF) {
+            throw new IllegalStateException("Player name too long for snapshot: " + name.length + " bytes");
+        }
+        return name;
+    }
+
+    private long generateAnswer() {
+        return this.generator.generate(this.range.lowerBound(), this.range.upperBound());
+    }
 }
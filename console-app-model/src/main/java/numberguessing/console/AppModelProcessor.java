@@ -0,0 +1,212 @@
+package numberguessing.console;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 입력 줄을 구독하여 {@link AppModel} 에 전달하고, 입력마다 생긴 출력을 한 덩어리씩 발행하는 {@link Flow.Processor}.
+ * <p>
+ * 첫 덩어리는 모델이 처음 만든 출력(모드 선택 메시지)이다. 입력 하나는 출력 덩어리를 최대 하나 만들므로, 구독자가 요청한
+ * 만큼만 상위 발행자에게 입력을 요청한다. 따라서 받아 둔 입력과 보내지 못한 출력은 구독자의 요청 수를 넘지 않는다.
+ * <p>
+ * 모든 신호는 주어진 {@link Executor} 에서 한 번에 한 작업으로만 처리되며 스레드를 막고 기다리지 않는다. 그래서 적은 수의
+ * 이벤트 루프 스레드로 많은 세션을 돌릴 수 있다. 게임이 끝나면 상위 구독을 취소하고 구독자에게 완료를 알린다.
+ * 구독자는 하나만 받는다.
+ */
+public final class AppModelProcessor implements Flow.Processor<String, String> {
+
+    private final AppModel model;
+    private final Executor executor;
+    private final ConcurrentLinkedQueue<String> inputs = new ConcurrentLinkedQueue<>();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger workInProgress = new AtomicInteger();
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super String> downstream;
+    private volatile boolean upstreamDone;
+    private volatile Throwable error;
+    private volatile Throwable requestError;
+    private volatile boolean cancelled;
+
+    // 아래 필드는 drain 작업 안에서만 읽고 쓴다.
+    private String pendingOutput;
+    private long requestedInputs;
+    private boolean done;
+
+    /**
+     * @param model    처리할 세션. 만든 뒤에는 이 프로세서만 모델을 사용해야 한다.
+     * @param executor 신호를 처리할 실행기. 여러 프로세서가 함께 써도 된다.
+     */
+    public AppModelProcessor(AppModel model, Executor executor) {
+        this.model = Objects.requireNonNull(model);
+        this.executor = Objects.requireNonNull(executor);
+        this.pendingOutput = model.flushOutput();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super String> subscriber) {
+        Objects.requireNonNull(subscriber);
+        synchronized (this) {
+            if (this.downstream != null) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(new IllegalStateException("AppModelProcessor allows only one subscriber"));
+                return;
+            }
+            this.downstream = subscriber;
+        }
+        subscriber.onSubscribe(new OutputSubscription());
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.upstream != null || this.cancelled) {
+            subscription.cancel();
+            return;
+        }
+        this.upstream = subscription;
+        drain();
+    }
+
+    @Override
+    public void onNext(String input) {
+        this.inputs.offer(Objects.requireNonNull(input));
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        this.error = Objects.requireNonNull(throwable);
+        this.upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        this.upstreamDone = true;
+        drain();
+    }
+
+    private void drain() {
+        if (this.workInProgress.getAndIncrement() == 0) {
+            this.executor.execute(this::drainLoop);
+        }
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        do {
+            try {
+                emit();
+            } catch (Throwable e) {
+                fail(e);
+            }
+            missed = this.workInProgress.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit() {
+        Flow.Subscriber<? super String> subscriber = this.downstream;
+        if (this.done || subscriber == null) {
+            return;
+        }
+        if (this.cancelled) {
+            this.done = true;
+            this.inputs.clear();
+            cancelUpstream();
+            return;
+        }
+        if (this.requestError != null) {
+            fail(this.requestError);
+            return;
+        }
+        while (this.demand.get() > 0) {
+            if (this.pendingOutput != null) {
+                String output = this.pendingOutput;
+                this.pendingOutput = null;
+                if (!output.isEmpty()) {
+                    this.demand.decrementAndGet();
+                    subscriber.onNext(output);
+                }
+                if (this.model.isCompleted()) {
+                    this.done = true;
+                    this.inputs.clear();
+                    cancelUpstream();
+                    subscriber.onComplete();
+                    return;
+                }
+                continue;
+            }
+            String input = this.inputs.poll();
+            if (input == null) {
+                break;
+            }
+            this.requestedInputs--;
+            this.model.processInput(input);
+            this.pendingOutput = this.model.flushOutput();
+        }
+        if (this.upstreamDone && this.inputs.isEmpty() && this.pendingOutput == null) {
+            this.done = true;
+            if (this.error != null) {
+                subscriber.onError(this.error);
+            } else {
+                subscriber.onComplete();
+            }
+            return;
+        }
+        Flow.Subscription subscription = this.upstream;
+        long credit = this.demand.get() - this.requestedInputs - (this.pendingOutput != null ? 1 : 0);
+        if (subscription != null && credit > 0) {
+            this.requestedInputs += credit;
+            subscription.request(credit);
+        }
+    }
+
+    private void fail(Throwable throwable) {
+        if (this.done) {
+            return;
+        }
+        this.done = true;
+        this.inputs.clear();
+        cancelUpstream();
+        this.downstream.onError(throwable);
+    }
+
+    private void cancelUpstream() {
+        Flow.Subscription subscription = this.upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private final class OutputSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                requestError = new IllegalArgumentException("Non-positive request: " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package numberguessing.console;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 출력을 {@link Appendable}({@link StringBuilder}, {@link java.io.Writer} 등)에 바로 덧붙이는 {@link OutputSink}.
+ */
+final class AppendableOutputSink implements OutputSink {
+
+    private final Appendable target;
+    private final char[] digits = new char[11];
+
+    AppendableOutputSink(Appendable target) {
+        this.target = target;
+    }
+
+    @Override
+    public void writeMessage(String message) {
+        writeText(message);
+    }
+
+    @Override
+    public void writeText(CharSequence text) {
+        try {
+            this.target.append(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeNumber(int number) {
+        // Integer.toString 으로 문자열을 만들지 않도록 뒤에서부터 자릿수를 채운다.
+        long value = Math.abs((long) number);
+        int position = this.digits.length;
+        do {
+            this.digits[--position] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        if (number < 0) {
+            this.digits[--position] = '-';
+        }
+        try {
+            for (int i = position; i < this.digits.length; i++) {
+                this.target.append(this.digits[i]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package numberguessing.console;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link AppModel} 을 {@link CompletableFuture} 로 다루는 비동기 세션.
+ * <p>
+ * 호출은 바로 반환하고 실제 처리는 주어진 {@link Executor} 에서 이루어진다. 같은 세션에 대한 호출은 앞선 호출이 끝난 뒤에
+ * 이어 붙여 순서대로 처리하므로 잠금을 잡고 기다리는 스레드가 없다. 앞선 호출이 실패해도 다음 호출은 처리된다.
+ */
+public final class AsyncGameSession {
+
+    private final AppModel model;
+    private final Executor executor;
+    private CompletableFuture<String> tail = CompletableFuture.completedFuture(null);
+    private volatile boolean completed;
+
+    /**
+     * @param model    처리할 세션. 만든 뒤에는 이 객체만 모델을 사용해야 한다.
+     * @param executor 입력을 처리할 실행기. 여러 세션이 함께 써도 된다.
+     */
+    public AsyncGameSession(AppModel model, Executor executor) {
+        this.model = Objects.requireNonNull(model);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * 모델에 쌓여 있는 출력을 비운다. 세션을 만든 직후 모드 선택 메시지를 받을 때 쓴다.
+     */
+    public CompletableFuture<String> flushOutput() {
+        return enqueue(null);
+    }
+
+    /**
+     * 입력을 처리하고 그로 인해 생긴 출력으로 완료되는 future 를 반환한다. 게임이 이미 끝났으면
+     * {@link IllegalStateException} 으로 실패한다.
+     */
+    public CompletableFuture<String> processInput(String input) {
+        return enqueue(Objects.requireNonNull(input));
+    }
+
+    /**
+     * 지금까지 처리가 끝난 입력으로 게임이 종료되었는지 반환한다.
+     */
+    public boolean isCompleted() {
+        return this.completed;
+    }
+
+    private synchronized CompletableFuture<String> enqueue(String input) {
+        CompletableFuture<String> result = this.tail.handleAsync((previous, failure) -> process(input), this.executor);
+        this.tail = result;
+        return result;
+    }
+
+    private String process(String input) {
+        if (input != null) {
+            if (this.model.isCompleted()) {
+                throw new IllegalStateException("Game is already completed");
+            }
+            this.model.processInput(input);
+        }
+        String output = this.model.flushOutput();
+        this.completed = this.model.isCompleted();
+        return output;
+    }
+}
@@ -0,0 +1,61 @@
+package numberguessing.console;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 호출자의 UTF-8 {@code byte[]} 일부를 복사 없이 {@link CharSequence} 로 보여주는 재사용 가능한 뷰.
+ * <p>
+ * 숫자와 모드 선택처럼 ASCII 만 다루는 경로는 {@link #charAt(int)} 로 바이트를 그대로 읽고,
+ * 플레이어 이름처럼 문자열이 필요한 경로는 {@link #toString()} 에서 UTF-8 로 디코딩한다.
+ * ASCII 가 아닌 바이트는 {@link #charAt(int)} 에서 {@code '�'} 로 보인다.
+ */
+final class ByteArraySequence implements CharSequence {
+
+    private byte[] bytes;
+    private int offset;
+    private int length;
+
+    ByteArraySequence wrap(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("offset=%d, length=%d, array length=%d"
+                    .formatted(offset, length, bytes.length));
+        }
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    void clear() {
+        this.bytes = null;
+        this.offset = 0;
+        this.length = 0;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        byte b = this.bytes[this.offset + index];
+        return b >= 0 ? (char) b : '�';
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > this.length || start > end) {
+            throw new IndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + this.length);
+        }
+        return new String(this.bytes, this.offset + start, end - start, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return new String(this.bytes, this.offset, this.length, StandardCharsets.UTF_8);
+    }
+}
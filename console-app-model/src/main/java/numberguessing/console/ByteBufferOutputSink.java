@@ -0,0 +1,69 @@
+package numberguessing.console;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.CoderResult;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 출력을 호출자의 {@link ByteBuffer} 에 UTF-8 로 바로 쓰는 {@link OutputSink}.
+ * <p>
+ * 고정 메시지는 한 번만 인코딩하여 모든 sink 가 공유한다. 버퍼에 남은 공간이 부족하면
+ * {@link java.nio.BufferOverflowException} 을 던지므로, 호출자는 입력마다 버퍼를 비워야 한다.
+ */
+final class ByteBufferOutputSink implements OutputSink {
+
+    private static final ConcurrentHashMap<String, byte[]> ENCODED_MESSAGES = new ConcurrentHashMap<>();
+
+    private final ByteBuffer target;
+    private final CharsetEncoder encoder = UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    ByteBufferOutputSink(ByteBuffer target) {
+        this.target = target;
+    }
+
+    @Override
+    public void writeMessage(String message) {
+        this.target.put(ENCODED_MESSAGES.computeIfAbsent(message, m -> m.getBytes(UTF_8)));
+    }
+
+    @Override
+    public void writeText(CharSequence text) {
+        this.encoder.reset();
+        CoderResult result = this.encoder.encode(CharBuffer.wrap(text), this.target, true);
+        if (result.isUnderflow()) {
+            result = this.encoder.flush(this.target);
+        }
+        if (result.isOverflow()) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    @Override
+    public void writeEncoded(EncodedText text) {
+        this.target.put(text.utf8());
+    }
+
+    @Override
+    public void writeNumber(int number) {
+        long value = number;
+        if (value < 0) {
+            this.target.put((byte) '-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (divisor * 10 <= value) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            this.target.put((byte) ('0' + value / divisor % 10));
+        }
+    }
+}
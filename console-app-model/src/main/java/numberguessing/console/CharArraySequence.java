@@ -0,0 +1,51 @@
+package numberguessing.console;
+
+/**
+ * 호출자의 {@code char[]} 일부를 복사 없이 {@link CharSequence} 로 보여주는 재사용 가능한 뷰.
+ */
+final class CharArraySequence implements CharSequence {
+
+    private char[] chars;
+    private int offset;
+    private int length;
+
+    CharArraySequence wrap(char[] chars, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > chars.length) {
+            throw new IndexOutOfBoundsException("offset=%d, length=%d, array length=%d"
+                    .formatted(offset, length, chars.length));
+        }
+        this.chars = chars;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    void clear() {
+        this.chars = null;
+        this.offset = 0;
+        this.length = 0;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return this.chars[this.offset + index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new String(this.chars, this.offset, this.length);
+    }
+}
@@ -0,0 +1,51 @@
+package numberguessing.console;
+
+/**
+ * 다른 {@link CharSequence} 의 일부를 복사 없이 보여주는 재사용 가능한 뷰.
+ */
+final class CharSequenceSlice implements CharSequence {
+
+    private CharSequence source;
+    private int start;
+    private int length;
+
+    CharSequenceSlice wrap(CharSequence source, int start, int end) {
+        if (start < 0 || start > end || end > source.length()) {
+            throw new IndexOutOfBoundsException("start=%d, end=%d, length=%d"
+                    .formatted(start, end, source.length()));
+        }
+        this.source = source;
+        this.start = start;
+        this.length = end - start;
+        return this;
+    }
+
+    void clear() {
+        this.source = null;
+        this.start = 0;
+        this.length = 0;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return this.source.charAt(this.start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return this.source.subSequence(this.start, this.start + this.length).toString();
+    }
+}
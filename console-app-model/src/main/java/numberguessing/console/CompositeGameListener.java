@@ -0,0 +1,66 @@
+package numberguessing.console;
+
+/**
+ * 이벤트를 여러 리스너에 순서대로 전달한다.
+ */
+final class CompositeGameListener implements GameListener {
+
+    private final GameListener[] listeners;
+    private final boolean recordsLatency;
+
+    CompositeGameListener(GameListener[] listeners) {
+        this.listeners = listeners;
+        boolean recordsLatency = false;
+        for (GameListener listener : listeners) {
+            recordsLatency |= listener.recordsLatency();
+        }
+        this.recordsLatency = recordsLatency;
+    }
+
+    @Override
+    public void gameStarted(GameMode mode) {
+        for (GameListener listener : this.listeners) {
+            listener.gameStarted(mode);
+        }
+    }
+
+    @Override
+    public void guessProcessed(GameMode mode, long guess, GuessResult result) {
+        for (GameListener listener : this.listeners) {
+            listener.guessProcessed(mode, guess, result);
+        }
+    }
+
+    @Override
+    public void gameFinished(GameResult result) {
+        for (GameListener listener : this.listeners) {
+            listener.gameFinished(result);
+        }
+    }
+
+    @Override
+    public void inputRejected() {
+        for (GameListener listener : this.listeners) {
+            listener.inputRejected();
+        }
+    }
+
+    @Override
+    public boolean recordsLatency() {
+        return this.recordsLatency;
+    }
+
+    @Override
+    public void inputProcessed(long elapsedNanos) {
+        for (GameListener listener : this.listeners) {
+            listener.inputProcessed(elapsedNanos);
+        }
+    }
+
+    @Override
+    public void outputFlushed(long elapsedNanos) {
+        for (GameListener listener : this.listeners) {
+            listener.outputFlushed(elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package numberguessing.console;
+
+final class DiscardingOutputSink implements OutputSink {
+
+    static final DiscardingOutputSink INSTANCE = new DiscardingOutputSink();
+
+    private DiscardingOutputSink() {
+    }
+
+    @Override
+    public void writeMessage(String message) {
+    }
+
+    @Override
+    public void writeText(CharSequence text) {
+    }
+
+    @Override
+    public void writeNumber(int number) {
+    }
+}
@@ -0,0 +1,33 @@
+package numberguessing.console;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 미리 UTF-8 로 인코딩해 둔 가변 텍스트. 플레이어별 프롬프트처럼 게임 중에 여러 번 출력되지만 상수는 아닌 텍스트에 쓴다.
+ * <p>
+ * {@link OutputSink#writeMessage(String)} 와 달리 sink 가 공유 캐시에 넣지 않으므로, 플레이어가 많아도 캐시가 커지지 않는다.
+ */
+public final class EncodedText {
+
+    private final String text;
+    private final byte[] utf8;
+
+    public EncodedText(String text) {
+        this.text = text;
+        this.utf8 = text.getBytes(UTF_8);
+    }
+
+    public String text() {
+        return this.text;
+    }
+
+    // 호출자는 배열을 수정하지 않아야 한다.
+    byte[] utf8() {
+        return this.utf8;
+    }
+
+    @Override
+    public String toString() {
+        return this.text;
+    }
+}
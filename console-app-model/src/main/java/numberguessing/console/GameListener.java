@@ -0,0 +1,55 @@
+package numberguessing.console;
+
+/**
+ * {@link AppModel} 에서 일어나는 게임 이벤트를 받는다. 모든 메서드는 입력을 처리하는 스레드에서 호출된다.
+ */
+public interface GameListener {
+
+    GameListener NONE = new GameListener() {
+    };
+
+    /**
+     * 이벤트를 {@code listeners} 모두에 순서대로 전달하는 리스너를 반환한다.
+     */
+    static GameListener of(GameListener... listeners) {
+        return listeners.length == 1 ? listeners[0] : new CompositeGameListener(listeners.clone());
+    }
+
+    default void gameStarted(GameMode mode) {
+    }
+
+    /**
+     * 추측 하나가 처리될 때마다 호출된다. 정답인 경우 {@link #gameFinished(GameResult)} 보다 먼저 호출된다.
+     */
+    default void guessProcessed(GameMode mode, long guess, GuessResult result) {
+    }
+
+    default void gameFinished(GameResult result) {
+    }
+
+    /**
+     * 추측으로 해석할 수 없는 입력을 받았을 때 호출된다.
+     */
+    default void inputRejected() {
+    }
+
+    /**
+     * {@code true} 이면 {@link #inputProcessed(long)} 와 {@link #outputFlushed(long)} 로 처리 시간을 받는다.
+     * 모델을 만들 때 한 번만 확인하며, {@code false} 이면 모델은 시간을 재지 않는다.
+     */
+    default boolean recordsLatency() {
+        return false;
+    }
+
+    /**
+     * {@link AppModel#processInput(CharSequence)} 한 번에 걸린 시간.
+     */
+    default void inputProcessed(long elapsedNanos) {
+    }
+
+    /**
+     * {@link AppModel#flushOutput()} 한 번에 걸린 시간.
+     */
+    default void outputFlushed(long elapsedNanos) {
+    }
+}
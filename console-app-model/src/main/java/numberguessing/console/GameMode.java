@@ -0,0 +1,7 @@
+package numberguessing.console;
+
+public enum GameMode {
+
+    SINGLE_PLAYER,
+    MULTIPLAYER
+}
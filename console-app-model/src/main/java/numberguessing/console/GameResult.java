@@ -0,0 +1,11 @@
+package numberguessing.console;
+
+/**
+ * 끝난 게임 하나의 결과.
+ *
+ * @param mode    게임 모드
+ * @param guesses 정답을 맞출 때까지의 추측 횟수. 멀티플레이어 게임에서는 모든 플레이어의 추측을 합한 값이다.
+ * @param winner  멀티플레이어 게임의 승자. 싱글 플레이 게임에서는 {@code null} 이다.
+ */
+public record GameResult(GameMode mode, int guesses, String winner) {
+}
@@ -0,0 +1,81 @@
+package numberguessing.console;
+
+/**
+ * 입력 한 줄을 10진수 추측값으로 해석한다. 문자열이나 예외를 만들지 않고 결과 코드를 반환하며, 값은 {@link #value()} 로 읽는다.
+ * <p>
+ * 앞뒤 공백은 무시하고, 부호({@code +} 또는 {@code -}) 하나와 ASCII 숫자만 받는다. 인스턴스는 마지막 결과를 보관하므로
+ * 한 스레드에서만 사용해야 한다.
+ */
+public final class GuessParser {
+
+    public enum Result {
+        VALID,
+        /**
+         * 공백뿐인 입력
+         */
+        EMPTY,
+        /**
+         * 숫자가 아닌 문자가 있는 입력
+         */
+        NOT_A_NUMBER,
+        /**
+         * {@code long} 으로 나타낼 수 없는 수
+         */
+        OUT_OF_RANGE
+    }
+
+    private long value;
+
+    public Result parse(CharSequence input) {
+        int start = 0;
+        int end = input.length();
+        while (start < end && isWhitespace(input.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(input.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return Result.EMPTY;
+        }
+        char first = input.charAt(start);
+        boolean negative = first == '-';
+        if (negative || first == '+') {
+            if (++start == end) {
+                return Result.NOT_A_NUMBER;
+            }
+        }
+        // Long.parseLong 처럼 음수 쪽으로 누적하여 Long.MIN_VALUE 까지 표현한다.
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long accumulated = 0;
+        boolean overflow = false;
+        for (int i = start; i < end; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Result.NOT_A_NUMBER;
+            }
+            if (accumulated < multiplyLimit || accumulated * 10 < limit + digit) {
+                overflow = true;
+            } else {
+                accumulated = accumulated * 10 - digit;
+            }
+        }
+        if (overflow) {
+            return Result.OUT_OF_RANGE;
+        }
+        this.value = negative ? accumulated : -accumulated;
+        return Result.VALID;
+    }
+
+    /**
+     * 마지막으로 {@link Result#VALID} 를 반환한 입력의 값.
+     */
+    public long value() {
+        return this.value;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '\f';
+    }
+}
@@ -0,0 +1,8 @@
+package numberguessing.console;
+
+public enum GuessResult {
+
+    TOO_LOW,
+    TOO_HIGH,
+    CORRECT
+}
@@ -0,0 +1,67 @@
+package numberguessing.console;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * 플레이어 이름을 정수 아이디로 인턴하는 참조 카운트 테이블. 같은 이름은 몇 개의 세션이 쓰든 한 번만 보관하며,
+ * 마지막 참조가 해제되면 그 아이디를 다시 사용한다. 동기화하지 않는다.
+ */
+final class NameTable {
+
+    private final HashMap<String, Integer> ids = new HashMap<>();
+    private String[] names = new String[16];
+    private int[] references = new int[16];
+    private int[] freeIds = new int[16];
+    private int freeCount;
+    private int nextId;
+
+    /**
+     * 이름의 아이디를 반환하고 참조 수를 하나 늘린다.
+     */
+    int intern(String name) {
+        Integer existing = this.ids.get(name);
+        if (existing != null) {
+            this.references[existing]++;
+            return existing;
+        }
+        int id = this.freeCount > 0 ? this.freeIds[--this.freeCount] : allocateId();
+        this.names[id] = name;
+        this.references[id] = 1;
+        this.ids.put(name, id);
+        return id;
+    }
+
+    /**
+     * 참조 수를 하나 줄이고, 남은 참조가 없으면 이름을 테이블에서 제거한다.
+     */
+    void release(int id) {
+        if (--this.references[id] == 0) {
+            this.ids.remove(this.names[id]);
+            this.names[id] = null;
+            if (this.freeCount == this.freeIds.length) {
+                this.freeIds = Arrays.copyOf(this.freeIds, this.freeCount * 2);
+            }
+            this.freeIds[this.freeCount++] = id;
+        }
+    }
+
+    String name(int id) {
+        return this.names[id];
+    }
+
+    /**
+     * 현재 보관 중인 서로 다른 이름의 수.
+     */
+    int size() {
+        return this.ids.size();
+    }
+
+    private int allocateId() {
+        if (this.nextId == this.names.length) {
+            this.names = Arrays.copyOf(this.names, this.nextId * 2);
+            this.references = Arrays.copyOf(this.references, this.nextId * 2);
+        }
+        return this.nextId++;
+    }
+}
@@ -0,0 +1,72 @@
+package numberguessing.console;
+
+import java.util.Objects;
+
+/**
+ * 정답이 될 수 있는 수의 구간 {@code [lowerBound, upperBound]}. 구간마다 달라지는 게임 시작 메시지를 미리 만들어 둔다.
+ */
+public final class NumberRange {
+
+    public static final NumberRange DEFAULT = new NumberRange(1, 100);
+
+    private final long lowerBound;
+    private final long upperBound;
+    private final String singlePlayerStartMessage;
+    private final String multiplayerStartMessage;
+
+    /**
+     * @throws IllegalArgumentException {@code 1 <= lowerBound <= upperBound} 가 아닌 경우
+     */
+    public NumberRange(long lowerBound, long upperBound) {
+        if (lowerBound < 1 || lowerBound > upperBound) {
+            throw new IllegalArgumentException("Invalid bounds: [%d, %d]".formatted(lowerBound, upperBound));
+        }
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.multiplayerStartMessage = AppModel.THINKING_MESSAGE_FORMAT.formatted(lowerBound, upperBound);
+        this.singlePlayerStartMessage = AppModel.SINGLE_PLAYER_TITLE
+                + this.multiplayerStartMessage
+                + AppModel.GUESS_PROMPT;
+    }
+
+    public long lowerBound() {
+        return this.lowerBound;
+    }
+
+    public long upperBound() {
+        return this.upperBound;
+    }
+
+    public boolean contains(long value) {
+        return value >= this.lowerBound && value <= this.upperBound;
+    }
+
+    String singlePlayerStartMessage() {
+        return this.singlePlayerStartMessage;
+    }
+
+    String multiplayerStartMessage() {
+        return this.multiplayerStartMessage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NumberRange other)) {
+            return false;
+        }
+        return this.lowerBound == other.lowerBound && this.upperBound == other.upperBound;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.lowerBound, this.upperBound);
+    }
+
+    @Override
+    public String toString() {
+        return "[%d, %d]".formatted(this.lowerBound, this.upperBound);
+    }
+}
@@ -0,0 +1,57 @@
+package numberguessing.console;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link AppModel} 이 출력하는 메시지를 받는 대상.
+ * <p>
+ * 모델은 출력을 고정 메시지, 가변 텍스트, 숫자 조각으로 나누어 전달한다. 고정 메시지는 유한한 상수 집합이고 항상 같은
+ * {@link String} 인스턴스로 전달되므로, 구현체는 메시지별로 인코딩한 결과를 캐시해 두고 재사용할 수 있다.
+ */
+public interface OutputSink {
+
+    /**
+     * 게임 내내 변하지 않는 메시지 상수를 쓴다.
+     */
+    void writeMessage(String message);
+
+    /**
+     * 플레이어 이름처럼 입력에 따라 달라지는 텍스트를 쓴다.
+     */
+    void writeText(CharSequence text);
+
+    /**
+     * 추측 횟수 같은 숫자를 10진수로 쓴다.
+     */
+    void writeNumber(int number);
+
+    /**
+     * 미리 인코딩해 둔 텍스트를 쓴다. 바이트로 출력하는 구현체는 인코딩된 바이트를 그대로 복사한다.
+     */
+    default void writeEncoded(EncodedText text) {
+        writeText(text.text());
+    }
+
+    /**
+     * 모든 출력을 버리는 sink 를 반환한다. 결과만 필요한 재생이나 시뮬레이션에 쓴다.
+     */
+    static OutputSink discard() {
+        return DiscardingOutputSink.INSTANCE;
+    }
+
+    /**
+     * {@link Appendable}({@link StringBuilder}, {@link java.io.Writer} 등)에 출력을 바로 덧붙이는 sink 를 만든다.
+     * {@code target} 이 던지는 {@link java.io.IOException} 은 {@link java.io.UncheckedIOException} 으로 전달된다.
+     */
+    static OutputSink to(Appendable target) {
+        return new AppendableOutputSink(target);
+    }
+
+    /**
+     * {@link ByteBuffer} 에 출력을 UTF-8 로 바로 쓰는 sink 를 만든다. 남은 공간이 부족하면
+     * {@link java.nio.BufferOverflowException} 을 던진다.
+     */
+    static OutputSink to(ByteBuffer target) {
+        return new ByteBufferOutputSink(target);
+    }
+}
@@ -0,0 +1,166 @@
+package numberguessing.console;
+
+import numberguessing.PositiveIntegerGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 쉬고 있는 세션의 상태를 {@link AppModel} 객체 대신 필드별 기본형 배열에 나누어 보관한다.
+ * <p>
+ * 세션 하나는 진행 단계(1), 정답(8), 시도 횟수(4), 현재 플레이어(4), 설정 아이디(4) 바이트와 멀티 플레이 게임의 경우
+ * 플레이어 이름 아이디 배열(동시 추측 방식이면 이번 라운드의 추측 배열도)만 차지한다. 구간과 차례 규칙의 조합은 설정 아이디로
+ * 인턴한다. 이름은 {@link NameTable} 로 인턴하므로 여러 세션에 같은 이름이 있어도 한 번만 보관한다.
+ * 출력 버퍼, 프로세서, 리스너는 보관하지 않으며 {@link #activate} 로 꺼낼 때 새로 만든다.
+ * <p>
+ * 세션은 {@link #park(AppModel)} 가 반환한 핸들로 찾는다. 꺼낸 세션의 핸들은 다른 세션에 다시 쓰일 수 있다.
+ */
+public class ParkedSessionStore {
+
+    private static final byte EMPTY = -1;
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    private final NameTable names = new NameTable();
+    private final HashMap<Settings, Integer> settingsIds = new HashMap<>();
+    private final List<Settings> settings = new ArrayList<>();
+
+    private byte[] phases;
+    private long[] answers;
+    private int[] tries;
+    private int[] playerIndexes;
+    private int[] sessionSettingsIds;
+    private int[][] rosters;
+    private long[][] roundGuesses;
+    private int[] freeSlots;
+    private int freeCount;
+    private int nextSlot;
+    private int size;
+
+    public ParkedSessionStore() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity 처음에 자리를 마련해 둘 세션 수. 보관할 세션 수를 미리 알면 배열을 늘리는 비용을 피할 수 있다.
+     */
+    public ParkedSessionStore(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid initial capacity: " + initialCapacity);
+        }
+        this.phases = new byte[initialCapacity];
+        Arrays.fill(this.phases, EMPTY);
+        this.answers = new long[initialCapacity];
+        this.tries = new int[initialCapacity];
+        this.playerIndexes = new int[initialCapacity];
+        this.sessionSettingsIds = new int[initialCapacity];
+        this.rosters = new int[initialCapacity][];
+        this.roundGuesses = new long[initialCapacity][];
+        this.freeSlots = new int[16];
+    }
+
+    /**
+     * 모델의 상태를 보관하고 핸들을 반환한다. 보관한 뒤에는 그 모델을 더 사용하지 않아야 한다.
+     */
+    public synchronized int park(AppModel model) {
+        int slot = this.freeCount > 0 ? this.freeSlots[--this.freeCount] : allocateSlot();
+        this.phases[slot] = model.phase();
+        this.answers[slot] = model.answer();
+        this.tries[slot] = model.tries();
+        this.playerIndexes[slot] = model.playerIndex();
+        this.sessionSettingsIds[slot] = internSettings(new Settings(model.range(), model.scheduler()));
+        String[] players = model.players();
+        if (players != null) {
+            int[] roster = new int[players.length];
+            for (int i = 0; i < players.length; i++) {
+                roster[i] = this.names.intern(players[i]);
+            }
+            this.rosters[slot] = roster;
+            long[] guesses = model.roundGuesses();
+            this.roundGuesses[slot] = guesses != null && guesses.length > 0 ? guesses : null;
+        }
+        this.size++;
+        return slot;
+    }
+
+    /**
+     * 보관한 세션을 꺼내 모델로 되살린다. 되살린 모델은 아무것도 출력하지 않으며 보관하기 전과 똑같이 다음 입력을 처리한다.
+     *
+     * @throws NoSuchElementException 핸들에 보관된 세션이 없는 경우
+     */
+    public synchronized AppModel activate(int handle, PositiveIntegerGenerator generator, OutputSink output,
+                                          GameListener listener) {
+        if (handle < 0 || handle >= this.nextSlot || this.phases[handle] == EMPTY) {
+            throw new NoSuchElementException("No parked session: " + handle);
+        }
+        String[] players = null;
+        int[] roster = this.rosters[handle];
+        if (roster != null) {
+            players = new String[roster.length];
+            for (int i = 0; i < roster.length; i++) {
+                players[i] = this.names.name(roster[i]);
+                this.names.release(roster[i]);
+            }
+            this.rosters[handle] = null;
+        }
+        Settings settings = this.settings.get(this.sessionSettingsIds[handle]);
+        AppModel model = AppModel.resume(generator, settings.range(), output, listener, settings.scheduler(),
+                this.phases[handle], this.answers[handle], this.tries[handle], players, this.playerIndexes[handle],
+                this.roundGuesses[handle]);
+        this.roundGuesses[handle] = null;
+        this.phases[handle] = EMPTY;
+        if (this.freeCount == this.freeSlots.length) {
+            this.freeSlots = Arrays.copyOf(this.freeSlots, this.freeCount * 2);
+        }
+        this.freeSlots[this.freeCount++] = handle;
+        this.size--;
+        return model;
+    }
+
+    /**
+     * 내부 버퍼에 출력을 모으는 모델로 세션을 꺼낸다.
+     *
+     * @see #activate(int, PositiveIntegerGenerator, OutputSink, GameListener)
+     */
+    public AppModel activate(int handle, PositiveIntegerGenerator generator) {
+        return activate(handle, generator, null, GameListener.NONE);
+    }
+
+    public synchronized int size() {
+        return this.size;
+    }
+
+    synchronized int internedNames() {
+        return this.names.size();
+    }
+
+    private int internSettings(Settings settings) {
+        Integer id = this.settingsIds.get(settings);
+        if (id == null) {
+            id = this.settings.size();
+            this.settings.add(settings);
+            this.settingsIds.put(settings, id);
+        }
+        return id;
+    }
+
+    private int allocateSlot() {
+        if (this.nextSlot == this.phases.length) {
+            int capacity = this.phases.length + Math.max(this.phases.length >> 1, 16);
+            this.phases = Arrays.copyOf(this.phases, capacity);
+            Arrays.fill(this.phases, this.nextSlot, capacity, EMPTY);
+            this.answers = Arrays.copyOf(this.answers, capacity);
+            this.tries = Arrays.copyOf(this.tries, capacity);
+            this.playerIndexes = Arrays.copyOf(this.playerIndexes, capacity);
+            this.sessionSettingsIds = Arrays.copyOf(this.sessionSettingsIds, capacity);
+            this.rosters = Arrays.copyOf(this.rosters, capacity);
+            this.roundGuesses = Arrays.copyOf(this.roundGuesses, capacity);
+        }
+        return this.nextSlot++;
+    }
+
+    private record Settings(NumberRange range, TurnScheduler scheduler) {
+    }
+}
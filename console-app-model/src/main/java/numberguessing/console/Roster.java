@@ -0,0 +1,224 @@
+package numberguessing.console;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * 멀티 플레이 게임의 참가자 명단. 플레이어는 참가한 순서대로 원형 연결 리스트를 이루며, 각 플레이어는 재사용되는 정수 슬롯으로
+ * 가리킨다. 다음 차례 찾기, 참가, 퇴장은 명단 크기와 상관없이 상수 시간에 이루어진다.
+ * <p>
+ * 차례마다 출력하는 플레이어별 텍스트(프롬프트와 결과 문구)는 참가할 때 한 번만 만들어 인코딩해 둔다.
+ * 같은 이름의 플레이어도 각자 슬롯을 받아 따로 참가한다. 이름으로 찾으면 그 이름으로 가장 먼저 참가한 플레이어가 나온다.
+ */
+final class Roster {
+
+    static final int NONE = -1;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    // 이름별로 가장 먼저 참가한 플레이어의 슬롯. 같은 이름의 플레이어들은 sameNameNext/sameNamePrevious 로 참가 순서의
+    // 원형 리스트를 이룬다.
+    private final HashMap<String, Integer> slots = new HashMap<>();
+    private String[] names = new String[INITIAL_CAPACITY];
+    private EncodedText[] prompts = new EncodedText[INITIAL_CAPACITY];
+    private EncodedText[] tooLowMessages = new EncodedText[INITIAL_CAPACITY];
+    private EncodedText[] tooHighMessages = new EncodedText[INITIAL_CAPACITY];
+    private EncodedText[] invalidMessages = new EncodedText[INITIAL_CAPACITY];
+    private EncodedText[] timedOutMessages = new EncodedText[INITIAL_CAPACITY];
+    private long[] roundGuesses = new long[INITIAL_CAPACITY];
+    private int[] next = new int[INITIAL_CAPACITY];
+    private int[] previous = new int[INITIAL_CAPACITY];
+    private int[] sameNameNext = new int[INITIAL_CAPACITY];
+    private int[] sameNamePrevious = new int[INITIAL_CAPACITY];
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int slotCount;
+    private int head = NONE;
+    private int size;
+
+    /**
+     * 명단 끝에 플레이어를 추가하고 슬롯을 반환한다.
+     */
+    int join(String name) {
+        int slot = this.freeCount > 0 ? this.freeSlots[--this.freeCount] : allocateSlot();
+        this.names[slot] = name;
+        this.prompts[slot] = new EncodedText(AppModel.PLAYER_PROMPT_PREFIX + name + AppModel.PLAYER_PROMPT_SUFFIX);
+        this.tooLowMessages[slot] = new EncodedText(name + AppModel.PLAYER_TOO_LOW_SUFFIX);
+        this.tooHighMessages[slot] = new EncodedText(name + AppModel.PLAYER_TOO_HIGH_SUFFIX);
+        this.invalidMessages[slot] = new EncodedText(name + AppModel.PLAYER_INVALID_SUFFIX);
+        this.timedOutMessages[slot] = new EncodedText(name + AppModel.PLAYER_TIMED_OUT_SUFFIX);
+        if (this.head == NONE) {
+            this.head = slot;
+            this.next[slot] = slot;
+            this.previous[slot] = slot;
+        } else {
+            int tail = this.previous[this.head];
+            this.next[tail] = slot;
+            this.previous[slot] = tail;
+            this.next[slot] = this.head;
+            this.previous[this.head] = slot;
+        }
+        Integer first = this.slots.putIfAbsent(name, slot);
+        if (first == null) {
+            this.sameNameNext[slot] = slot;
+            this.sameNamePrevious[slot] = slot;
+        } else {
+            int last = this.sameNamePrevious[first];
+            this.sameNameNext[last] = slot;
+            this.sameNamePrevious[slot] = last;
+            this.sameNameNext[slot] = first;
+            this.sameNamePrevious[first] = slot;
+        }
+        this.size++;
+        return slot;
+    }
+
+    /**
+     * 플레이어를 명단에서 뺀다. 첫 플레이어를 빼면 그다음 플레이어가 첫 플레이어가 된다.
+     */
+    void leave(int slot) {
+        int sameNameAfter = this.sameNameNext[slot];
+        if (sameNameAfter == slot) {
+            this.slots.remove(this.names[slot]);
+        } else {
+            int sameNameBefore = this.sameNamePrevious[slot];
+            this.sameNameNext[sameNameBefore] = sameNameAfter;
+            this.sameNamePrevious[sameNameAfter] = sameNameBefore;
+            this.slots.replace(this.names[slot], slot, sameNameAfter);
+        }
+        if (--this.size == 0) {
+            this.head = NONE;
+        } else {
+            int before = this.previous[slot];
+            int after = this.next[slot];
+            this.next[before] = after;
+            this.previous[after] = before;
+            if (this.head == slot) {
+                this.head = after;
+            }
+        }
+        this.names[slot] = null;
+        this.prompts[slot] = null;
+        this.tooLowMessages[slot] = null;
+        this.tooHighMessages[slot] = null;
+        this.invalidMessages[slot] = null;
+        this.timedOutMessages[slot] = null;
+        if (this.freeCount == this.freeSlots.length) {
+            this.freeSlots = Arrays.copyOf(this.freeSlots, this.freeCount * 2);
+        }
+        this.freeSlots[this.freeCount++] = slot;
+    }
+
+    /**
+     * 이름이 {@code name} 인 플레이어 중 가장 먼저 참가한 플레이어의 슬롯. 없으면 {@link #NONE} 을 반환한다.
+     */
+    int slotOf(String name) {
+        Integer slot = this.slots.get(name);
+        return slot != null ? slot : NONE;
+    }
+
+    int head() {
+        return this.head;
+    }
+
+    /**
+     * 명단에서 {@code slot} 다음 플레이어. 마지막 플레이어 다음은 첫 플레이어다.
+     */
+    int next(int slot) {
+        return this.next[slot];
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * 첫 플레이어부터 {@code slot} 까지의 거리.
+     */
+    int positionOf(int slot) {
+        int position = 0;
+        for (int current = this.head; current != slot; current = this.next[current]) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * 첫 플레이어부터 {@code position} 만큼 떨어진 플레이어.
+     */
+    int slotAt(int position) {
+        int slot = this.head;
+        for (int i = 0; i < position; i++) {
+            slot = this.next[slot];
+        }
+        return slot;
+    }
+
+    /**
+     * 첫 플레이어부터 명단 순서대로 이름을 반환한다.
+     */
+    String[] names() {
+        String[] ordered = new String[this.size];
+        for (int i = 0, slot = this.head; i < this.size; i++, slot = this.next[slot]) {
+            ordered[i] = this.names[slot];
+        }
+        return ordered;
+    }
+
+    String name(int slot) {
+        return this.names[slot];
+    }
+
+    EncodedText prompt(int slot) {
+        return this.prompts[slot];
+    }
+
+    EncodedText tooLowMessage(int slot) {
+        return this.tooLowMessages[slot];
+    }
+
+    EncodedText tooHighMessage(int slot) {
+        return this.tooHighMessages[slot];
+    }
+
+    EncodedText invalidMessage(int slot) {
+        return this.invalidMessages[slot];
+    }
+
+    EncodedText timedOutMessage(int slot) {
+        return this.timedOutMessages[slot];
+    }
+
+    /**
+     * 동시 추측 방식에서 이번 라운드에 낸 추측.
+     */
+    long roundGuess(int slot) {
+        return this.roundGuesses[slot];
+    }
+
+    void setRoundGuess(int slot, long guess) {
+        this.roundGuesses[slot] = guess;
+    }
+
+    private int allocateSlot() {
+        if (this.slotCount == this.names.length) {
+            int capacity = this.slotCount * 2;
+            this.names = Arrays.copyOf(this.names, capacity);
+            this.prompts = Arrays.copyOf(this.prompts, capacity);
+            this.tooLowMessages = Arrays.copyOf(this.tooLowMessages, capacity);
+            this.tooHighMessages = Arrays.copyOf(this.tooHighMessages, capacity);
+            this.invalidMessages = Arrays.copyOf(this.invalidMessages, capacity);
+            this.timedOutMessages = Arrays.copyOf(this.timedOutMessages, capacity);
+            this.roundGuesses = Arrays.copyOf(this.roundGuesses, capacity);
+            this.next = Arrays.copyOf(this.next, capacity);
+            this.previous = Arrays.copyOf(this.previous, capacity);
+            this.sameNameNext = Arrays.copyOf(this.sameNameNext, capacity);
+            this.sameNamePrevious = Arrays.copyOf(this.sameNamePrevious, capacity);
+        }
+        return this.slotCount++;
+    }
+}
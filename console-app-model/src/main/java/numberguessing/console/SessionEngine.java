@@ -0,0 +1,273 @@
+package numberguessing.console;
+
+import numberguessing.PositiveIntegerGenerator;
+import numberguessing.timer.TimingWheel;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 세션 아이디별로 독립적인 {@link AppModel} 게임을 여러 개 동시에 호스팅한다.
+ * <p>
+ * 세션 조회는 {@link ConcurrentHashMap} 으로 잠금 없이 이루어지고, 입력 처리는 해당 세션의 모델에서만 동기화하므로
+ * 서로 다른 세션에 대한 호출은 경합하지 않는다. 같은 세션에 대한 호출은 순서대로 처리된다.
+ * <p>
+ * 유휴 시간을 주면 그 시간 동안 입력이 없던 세션을 {@link #expireIdleSessions()} 가 제거하고 {@link SessionExpiryListener} 에
+ * 알린다. 세션마다 예약 작업을 두지 않고 모든 세션의 만료 시각을 {@link TimingWheel} 하나로 관리한다. 입력은 마지막 입력
+ * 시각만 기록하고 휠을 건드리지 않으며, 만료 시각이 된 세션 중 그 사이에 입력이 있던 세션은 남은 시간만큼 다시 예약한다.
+ */
+public class SessionEngine {
+
+    static final Duration DEFAULT_TICK = Duration.ofMillis(100);
+
+    private final Supplier<? extends PositiveIntegerGenerator> generatorFactory;
+    private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Duration idleTimeout;
+    private final SessionExpiryListener expiryListener;
+    private final LongSupplier clock;
+    private final long tickNanos;
+    private final TimingWheel<Session> wheel;
+
+    /**
+     * @param generatorFactory 세션마다 호출되어 그 세션 전용 정답 생성기를 만든다.
+     */
+    public SessionEngine(Supplier<? extends PositiveIntegerGenerator> generatorFactory) {
+        this(generatorFactory, null, SessionExpiryListener.NONE, DEFAULT_TICK, System::nanoTime);
+    }
+
+    /**
+     * @param idleTimeout    세션을 만들 때 유휴 시간을 따로 주지 않으면 쓰는 유휴 시간
+     * @param expiryListener 유휴 세션을 제거할 때 호출된다.
+     */
+    public SessionEngine(Supplier<? extends PositiveIntegerGenerator> generatorFactory, Duration idleTimeout,
+                         SessionExpiryListener expiryListener) {
+        this(generatorFactory, idleTimeout, expiryListener, DEFAULT_TICK, System::nanoTime);
+    }
+
+    SessionEngine(Supplier<? extends PositiveIntegerGenerator> generatorFactory, Duration idleTimeout,
+                  SessionExpiryListener expiryListener, Duration tick, LongSupplier clock) {
+        if (idleTimeout != null && (idleTimeout.isNegative() || idleTimeout.isZero())) {
+            throw new IllegalArgumentException("Invalid idle timeout: " + idleTimeout);
+        }
+        this.generatorFactory = generatorFactory;
+        this.idleTimeout = idleTimeout;
+        this.expiryListener = expiryListener;
+        this.clock = clock;
+        this.tickNanos = tick.toNanos();
+        this.wheel = idleTimeout != null ? new TimingWheel<>(this.tickNanos, clock.getAsLong()) : null;
+    }
+
+    /**
+     * 새 세션을 만들고 첫 출력(모드 선택 메시지)을 반환한다.
+     *
+     * @throws IllegalStateException 같은 아이디의 세션이 이미 있는 경우
+     */
+    public String createSession(String sessionId) {
+        return createSession(sessionId, this.idleTimeout);
+    }
+
+    /**
+     * 유휴 시간을 따로 정해 새 세션을 만든다. {@code idleTimeout} 이 {@code null} 이면 만료되지 않는다.
+     *
+     * @throws IllegalStateException 같은 아이디의 세션이 이미 있거나, 유휴 시간 없이 만든 엔진에 유휴 시간을 준 경우
+     */
+    public String createSession(String sessionId, Duration idleTimeout) {
+        AppModel model = new AppModel(this.generatorFactory.get());
+        addSession(sessionId, model, idleTimeout);
+        synchronized (model) {
+            return model.flushOutput();
+        }
+    }
+
+    /**
+     * 세션에 입력을 전달하고 그로 인해 생긴 출력을 반환한다. 입력으로 게임이 종료되면 세션은 제거된다.
+     *
+     * @throws NoSuchElementException 세션이 없는 경우
+     */
+    public String processInput(String sessionId, CharSequence input) {
+        Session session = this.sessions.get(sessionId);
+        if (session == null) {
+            throw new NoSuchElementException("Unknown session: " + sessionId);
+        }
+        AppModel model = session.model;
+        String output;
+        boolean completed;
+        synchronized (model) {
+            if (session.evicted || model.isCompleted() || this.sessions.get(sessionId) != session) {
+                // 조회한 뒤 내보내졌거나 제거되었거나 만료된 세션, 또는 다른 스레드의 입력으로 게임이 끝난 세션
+                throw new NoSuchElementException("Unknown session: " + sessionId);
+            }
+            if (session.idleTimeoutNanos > 0) {
+                session.lastActivityNanos = this.clock.getAsLong();
+            }
+            model.processInput(input);
+            output = model.flushOutput();
+            completed = model.isCompleted();
+        }
+        if (completed && this.sessions.remove(sessionId, session)) {
+            cancelExpiry(session);
+        }
+        return output;
+    }
+
+    /**
+     * 세션을 엔진에서 내보내고 그 상태를 {@link AppModel#snapshot()} 형식으로 반환한다. 세션이 없으면 {@code null} 을 반환한다.
+     */
+    public byte[] evictSession(String sessionId) {
+        Session session = this.sessions.remove(sessionId);
+        if (session == null) {
+            return null;
+        }
+        cancelExpiry(session);
+        // 이미 세션을 조회한 입력이 스냅샷 뒤에 처리되어 사라지지 않도록 잠금 안에서 표시한다.
+        synchronized (session.model) {
+            session.evicted = true;
+            return session.model.snapshot();
+        }
+    }
+
+    /**
+     * {@link #evictSession(String)} 으로 내보낸 세션을 되살린다. 되살린 세션은 내보내기 전과 똑같이 다음 입력을 처리한다.
+     *
+     * @throws IllegalStateException 같은 아이디의 세션이 이미 있는 경우
+     * @throws IllegalArgumentException 스냅샷이 올바르지 않은 경우
+     */
+    public void restoreSession(String sessionId, byte[] snapshot) {
+        restoreSession(sessionId, snapshot, this.idleTimeout);
+    }
+
+    /**
+     * 유휴 시간을 따로 정해 세션을 되살린다. {@link #createSession(String, Duration)} 으로 만든 세션은 그때 준 유휴 시간으로
+     * 되살려야 한다. {@code idleTimeout} 이 {@code null} 이면 만료되지 않는다.
+     *
+     * @throws IllegalStateException 같은 아이디의 세션이 이미 있거나, 유휴 시간 없이 만든 엔진에 유휴 시간을 준 경우
+     * @throws IllegalArgumentException 스냅샷이 올바르지 않은 경우
+     */
+    public void restoreSession(String sessionId, byte[] snapshot, Duration idleTimeout) {
+        addSession(sessionId, AppModel.restore(this.generatorFactory.get(), snapshot), idleTimeout);
+    }
+
+    public boolean removeSession(String sessionId) {
+        Session session = this.sessions.remove(sessionId);
+        if (session == null) {
+            return false;
+        }
+        cancelExpiry(session);
+        synchronized (session.model) {
+            session.evicted = true;
+        }
+        return true;
+    }
+
+    public boolean hasSession(String sessionId) {
+        return this.sessions.containsKey(sessionId);
+    }
+
+    public int sessionCount() {
+        return this.sessions.size();
+    }
+
+    /**
+     * 유휴 시간이 지난 세션을 제거하고 {@link SessionExpiryListener} 에 알린다. 주기적으로 호출해야 하며, 만료는 휠의 틱 단위로
+     * 반올림된다.
+     *
+     * @return 제거한 세션 수
+     */
+    public int expireIdleSessions() {
+        if (this.wheel == null) {
+            return 0;
+        }
+        long now = this.clock.getAsLong();
+        List<Session> due = new ArrayList<>();
+        synchronized (this.wheel) {
+            this.wheel.advance(now, due::add);
+        }
+        int expired = 0;
+        for (Session session : due) {
+            byte[] snapshot = null;
+            synchronized (session.model) {
+                if (this.sessions.get(session.id) != session) {
+                    continue;
+                }
+                long deadline = session.lastActivityNanos + session.idleTimeoutNanos;
+                if (deadline - now > 0) {
+                    synchronized (this.wheel) {
+                        session.timeout = this.wheel.schedule(session, deadline);
+                    }
+                    continue;
+                }
+                if (!this.sessions.remove(session.id, session)) {
+                    continue;
+                }
+                if (this.expiryListener != SessionExpiryListener.NONE) {
+                    snapshot = session.model.snapshot();
+                }
+            }
+            expired++;
+            this.expiryListener.sessionExpired(session.id, snapshot, Duration.ofNanos(session.idleTimeoutNanos));
+        }
+        return expired;
+    }
+
+    /**
+     * {@link #expireIdleSessions()} 를 휠의 틱마다 실행하도록 예약한다. 모든 세션이 이 작업 하나를 함께 쓴다.
+     */
+    public ScheduledFuture<?> scheduleExpiry(ScheduledExecutorService executor) {
+        return executor.scheduleWithFixedDelay(this::expireIdleSessions, this.tickNanos, this.tickNanos,
+                TimeUnit.NANOSECONDS);
+    }
+
+    private Session addSession(String sessionId, AppModel model, Duration idleTimeout) {
+        if (idleTimeout != null && this.wheel == null) {
+            throw new IllegalStateException("Engine was created without idle timeout");
+        }
+        Session session = new Session(sessionId, model, idleTimeout != null ? idleTimeout.toNanos() : 0);
+        if (this.sessions.putIfAbsent(sessionId, session) != null) {
+            throw new IllegalStateException("Session already exists: " + sessionId);
+        }
+        if (session.idleTimeoutNanos > 0) {
+            long now = this.clock.getAsLong();
+            session.lastActivityNanos = now;
+            synchronized (this.wheel) {
+                session.timeout = this.wheel.schedule(session, now + session.idleTimeoutNanos);
+            }
+        }
+        return session;
+    }
+
+    private void cancelExpiry(Session session) {
+        if (session.idleTimeoutNanos > 0) {
+            synchronized (this.wheel) {
+                if (session.timeout != null) {
+                    this.wheel.cancel(session.timeout);
+                }
+            }
+        }
+    }
+
+    private static final class Session {
+
+        final String id;
+        final AppModel model;
+        final long idleTimeoutNanos;
+        volatile long lastActivityNanos;
+        // 내보내거나 제거한 세션. 모델의 잠금 안에서만 읽고 쓴다.
+        boolean evicted;
+        // 휠의 잠금 안에서만 읽고 쓴다.
+        TimingWheel.Timeout<Session> timeout;
+
+        Session(String id, AppModel model, long idleTimeoutNanos) {
+            this.id = id;
+            this.model = model;
+            this.idleTimeoutNanos = idleTimeoutNanos;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package numberguessing.console;
+
+import java.time.Duration;
+
+/**
+ * {@link SessionEngine} 이 오래 입력이 없던 세션을 제거할 때 호출된다. 제거된 세션을 보관하거나 기록하는 데 쓴다.
+ */
+@FunctionalInterface
+public interface SessionExpiryListener {
+
+    /**
+     * 아무것도 하지 않는 리스너. 이 리스너를 쓰면 제거할 때 스냅샷을 만들지 않는다.
+     */
+    SessionExpiryListener NONE = (sessionId, snapshot, idleTimeout) -> {
+    };
+
+    /**
+     * @param snapshot    제거 직전 세션의 {@link AppModel#snapshot()}
+     * @param idleTimeout 세션의 유휴 시간. 같은 유휴 시간으로 되살리려면
+     *                    {@link SessionEngine#restoreSession(String, byte[], Duration)} 에 넘긴다.
+     */
+    void sessionExpired(String sessionId, byte[] snapshot, Duration idleTimeout);
+}
@@ -0,0 +1,20 @@
+package numberguessing.console;
+
+import java.util.List;
+
+/**
+ * 기록된 입력 한 벌(transcript)을 재생한 결과.
+ *
+ * @param games     끝난 게임들의 결과. 진행 중에 입력이 끝난 게임은 포함하지 않는다.
+ * @param completed 입력 도중 사용자가 종료를 선택했는지 여부
+ */
+public record TranscriptResult(List<GameResult> games, boolean completed) {
+
+    public int totalGuesses() {
+        int total = 0;
+        for (GameResult game : this.games) {
+            total += game.guesses();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,41 @@
+package numberguessing.console;
+
+import numberguessing.PositiveIntegerGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기록된 입력을 출력 텍스트 없이 한 번에 재생하고 게임 결과만 모은다.
+ */
+public final class Transcripts {
+
+    private Transcripts() {
+    }
+
+    public static TranscriptResult replay(PositiveIntegerGenerator generator, Iterable<? extends CharSequence> inputs) {
+        List<GameResult> games = new ArrayList<>();
+        var model = new AppModel(generator, OutputSink.discard(), collector(games));
+        model.processInputs(inputs);
+        return new TranscriptResult(List.copyOf(games), model.isCompleted());
+    }
+
+    /**
+     * 줄바꿈으로 구분된 입력 전체를 재생한다. 각 줄은 한 번의 입력이다.
+     */
+    public static TranscriptResult replay(PositiveIntegerGenerator generator, CharSequence lines) {
+        List<GameResult> games = new ArrayList<>();
+        var model = new AppModel(generator, OutputSink.discard(), collector(games));
+        model.processLines(lines);
+        return new TranscriptResult(List.copyOf(games), model.isCompleted());
+    }
+
+    private static GameListener collector(List<GameResult> games) {
+        return new GameListener() {
+            @Override
+            public void gameFinished(GameResult result) {
+                games.add(result);
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package numberguessing.console;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * 멀티 플레이 게임에서 플레이어의 차례를 정하는 규칙.
+ * <ul>
+ *     <li>{@link #roundRobin()}: 플레이어가 명단 순서대로 한 번씩 추측하고, 추측마다 결과를 바로 알린다.</li>
+ *     <li>{@link #timed(Duration)}: 차례 방식은 같지만, 제한 시간 안에 추측하지 않은 플레이어는 차례를 잃는다.</li>
+ *     <li>{@link #simultaneous()}: 한 라운드 동안 모든 플레이어의 추측을 모은 뒤 한꺼번에 결과를 알린다.
+ *     여러 명이 맞히면 명단에서 앞선 플레이어가 이긴다.</li>
+ * </ul>
+ */
+public final class TurnScheduler {
+
+    enum Kind {
+        ROUND_ROBIN, TIMED, SIMULTANEOUS
+    }
+
+    private static final TurnScheduler ROUND_ROBIN = new TurnScheduler(Kind.ROUND_ROBIN, 0, System::nanoTime);
+    private static final TurnScheduler SIMULTANEOUS = new TurnScheduler(Kind.SIMULTANEOUS, 0, System::nanoTime);
+
+    private final Kind kind;
+    private final long timeoutNanos;
+    private final LongSupplier nanoClock;
+
+    private TurnScheduler(Kind kind, long timeoutNanos, LongSupplier nanoClock) {
+        this.kind = kind;
+        this.timeoutNanos = timeoutNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    public static TurnScheduler roundRobin() {
+        return ROUND_ROBIN;
+    }
+
+    public static TurnScheduler timed(Duration turnTimeout) {
+        return timed(turnTimeout, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock {@link System#nanoTime()} 처럼 나노초 단위로 증가하는 시계
+     */
+    public static TurnScheduler timed(Duration turnTimeout, LongSupplier nanoClock) {
+        if (turnTimeout.isNegative() || turnTimeout.isZero()) {
+            throw new IllegalArgumentException("Turn timeout must be positive: " + turnTimeout);
+        }
+        return new TurnScheduler(Kind.TIMED, turnTimeout.toNanos(), nanoClock);
+    }
+
+    public static TurnScheduler simultaneous() {
+        return SIMULTANEOUS;
+    }
+
+    static TurnScheduler of(Kind kind, long timeoutNanos) {
+        return of(kind, timeoutNanos, System::nanoTime);
+    }
+
+    static TurnScheduler of(Kind kind, long timeoutNanos, LongSupplier nanoClock) {
+        return switch (kind) {
+            case ROUND_ROBIN -> ROUND_ROBIN;
+            case TIMED -> timed(Duration.ofNanos(timeoutNanos), nanoClock);
+            case SIMULTANEOUS -> SIMULTANEOUS;
+        };
+    }
+
+    Kind kind() {
+        return this.kind;
+    }
+
+    long timeoutNanos() {
+        return this.timeoutNanos;
+    }
+
+    long now() {
+        return this.nanoClock.getAsLong();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TurnScheduler other)) {
+            return false;
+        }
+        return this.kind == other.kind && this.timeoutNanos == other.timeoutNanos
+                && this.nanoClock == other.nanoClock;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.kind, this.timeoutNanos, System.identityHashCode(this.nanoClock));
+    }
+
+    @Override
+    public String toString() {
+        return this.kind == Kind.TIMED
+                ? "TIMED(" + Duration.ofNanos(this.timeoutNanos) + ")"
+                : this.kind.name();
+    }
+}
@@ -0,0 +1,196 @@
+package numberguessing.journal;
+
+import numberguessing.console.GameMode;
+import numberguessing.console.GuessResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static numberguessing.journal.JournalSegments.*;
+
+/**
+ * 게임 턴을 메모리 맵 세그먼트 파일에 고정 크기 레코드로 덧붙이는 저널.
+ * <p>
+ * {@link #append} 는 어느 스레드에서든 호출할 수 있으며 입출력을 하지 않는다. 이벤트는 잠금 없는 {@link EventRing} 에 넣어지고,
+ * 저널 전용 기록 스레드 하나가 이를 꺼내 현재 세그먼트에 쓴다. 세그먼트가 가득 차면 다음 세그먼트 파일을 만들어 이어 쓴다.
+ * 같은 디렉터리로 다시 열면 마지막 세그먼트의 기록된 레코드 뒤부터 이어 쓴다.
+ * <p>
+ * 링이 가득 차면 {@link #append} 는 기록 스레드가 따라잡을 때까지 기다린다. 닫기와 경합한 {@link #append} 는 기록되거나
+ * 예외를 던지며, 예외 없이 돌아온 이벤트는 {@link #close()} 가 모두 기록한 뒤에 돌아온다.
+ */
+public class EventJournal implements AutoCloseable {
+
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 20;
+    public static final int DEFAULT_RING_CAPACITY = 1 << 16;
+
+    private static final int DRAIN_LIMIT = 4096;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int AWAIT_SPINS = 1000;
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final EventRing ring;
+    private final EventRing.Consumer recordWriter = this::write;
+    private final BooleanSupplier closedCheck = this::isClosed;
+    private final Thread writerThread;
+
+    private volatile boolean closed;
+    private volatile Throwable failure;
+    // 아래 필드는 기록 스레드만 사용한다.
+    private MappedByteBuffer segment;
+    private long segmentFirstRecord;
+    private int segmentPosition;
+
+    public EventJournal(Path directory) throws IOException {
+        this(directory, DEFAULT_RECORDS_PER_SEGMENT, DEFAULT_RING_CAPACITY);
+    }
+
+    /**
+     * @param recordsPerSegment 새로 만드는 세그먼트 하나에 담을 레코드 수
+     * @param ringCapacity      기록 스레드에 넘기기 전에 모아둘 수 있는 이벤트 수. 2의 거듭제곱이어야 한다.
+     */
+    public EventJournal(Path directory, int recordsPerSegment, int ringCapacity) throws IOException {
+        if (recordsPerSegment <= 0 || recordsPerSegment > Integer.MAX_VALUE / RECORD_SIZE) {
+            throw new IllegalArgumentException("Invalid records per segment: " + recordsPerSegment);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.recordsPerSegment = recordsPerSegment;
+        this.ring = new EventRing(ringCapacity);
+        openLastSegment();
+        this.writerThread = new Thread(this::runWriter, "event-journal-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * 처리된 턴 하나를 기록하도록 넘긴다. 기록은 비동기로 이루어진다.
+     *
+     * @throws IllegalStateException 저널이 닫혔거나 기록 스레드가 실패한 경우
+     */
+    public void append(long sessionId, GameMode mode, long guess, GuessResult result) {
+        if (this.closed) {
+            throw new IllegalStateException("Journal is closed", this.failure);
+        }
+        this.ring.publish(System.currentTimeMillis(), sessionId, (byte) mode.ordinal(), guess,
+                (byte) result.ordinal(), this.closedCheck);
+    }
+
+    /**
+     * 지금까지 넘긴 이벤트가 모두 세그먼트에 쓰일 때까지 기다린다. 잠깐 돌며 기다리다가 그래도 남아 있으면 기록 스레드처럼
+     * 잠들었다 깨며 확인한다.
+     */
+    public void awaitWritten() {
+        for (int spins = 0; !this.ring.isEmpty() && this.writerThread.isAlive(); spins++) {
+            if (spins < AWAIT_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    public Path directory() {
+        return this.directory;
+    }
+
+    private boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * 남은 이벤트를 모두 기록하고 세그먼트를 디스크에 반영한 뒤 기록 스레드를 멈춘다.
+     */
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        LockSupport.unpark(this.writerThread);
+        try {
+            this.writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (this.failure != null) {
+            throw new IOException("Journal writer failed", this.failure);
+        }
+    }
+
+    private void runWriter() {
+        try {
+            while (true) {
+                int drained = this.ring.drain(this.recordWriter, DRAIN_LIMIT);
+                if (drained == 0) {
+                    if (this.closed && this.ring.isEmpty()) {
+                        break;
+                    }
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+            this.segment.force();
+        } catch (Throwable t) {
+            this.failure = t;
+            this.closed = true;
+        }
+    }
+
+    private void write(long timestamp, long sessionId, byte mode, long guess, byte result) {
+        if (this.segmentPosition == this.segment.capacity()) {
+            rollSegment();
+        }
+        MappedByteBuffer buffer = this.segment;
+        int offset = this.segmentPosition;
+        buffer.putLong(offset + TIMESTAMP_OFFSET, timestamp);
+        buffer.putLong(offset + SESSION_OFFSET, sessionId);
+        buffer.putLong(offset + GUESS_OFFSET, guess);
+        buffer.put(offset + MODE_OFFSET, mode);
+        buffer.put(offset + RESULT_OFFSET, result);
+        COMMIT.setRelease(buffer, offset + COMMIT_OFFSET, COMMITTED);
+        this.segmentPosition = offset + RECORD_SIZE;
+    }
+
+    private void rollSegment() {
+        this.segment.force();
+        long next = this.segmentFirstRecord + this.segment.capacity() / RECORD_SIZE;
+        try {
+            mapSegment(next, this.recordsPerSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 마지막 세그먼트를 열고 기록된 레코드 뒤로 위치를 옮긴다. 세그먼트가 없으면 첫 세그먼트를 만든다.
+    private void openLastSegment() throws IOException {
+        long[] segments = listSegments(this.directory);
+        if (segments.length == 0) {
+            mapSegment(0, this.recordsPerSegment);
+            return;
+        }
+        long last = segments[segments.length - 1];
+        int records = (int) (Files.size(segmentPath(this.directory, last)) / RECORD_SIZE);
+        mapSegment(last, records > 0 ? records : this.recordsPerSegment);
+        int position = 0;
+        while (position < this.segment.capacity()
+                && (int) COMMIT.getAcquire(this.segment, position + COMMIT_OFFSET) == COMMITTED) {
+            position += RECORD_SIZE;
+        }
+        this.segmentPosition = position;
+    }
+
+    private void mapSegment(long firstRecord, int records) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(this.directory, firstRecord), CREATE, READ, WRITE)) {
+            this.segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) records * RECORD_SIZE);
+        }
+        this.segmentFirstRecord = firstRecord;
+        this.segmentPosition = 0;
+    }
+
+}
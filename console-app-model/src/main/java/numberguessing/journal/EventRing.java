@@ -0,0 +1,119 @@
+package numberguessing.journal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 여러 생산자가 잠금 없이 턴 이벤트를 넣고 한 소비자가 꺼내는 고정 크기 링 버퍼.
+ * <p>
+ * 생산자는 빈 칸이 있을 때 일련번호를 CAS 로 얻어 자기 칸을 독점하고, 필드를 쓴 뒤 칸의 발행 번호를 release 로 기록한다.
+ * 필드는 칸마다 객체를 두지 않고 필드별 배열에 나누어 보관한다. 소비자는 발행 번호가 기대한 값인 칸까지만 순서대로 꺼낸다.
+ * <p>
+ * 칸을 얻은 뒤에 닫힌 것을 알게 된 생산자는 이벤트 대신 버림 표시를 발행하고 실패한다. 얻은 칸은 반드시 발행해야 소비자가 그 뒤
+ * 칸으로 넘어갈 수 있기 때문이다. 소비자는 버림 표시를 건너뛴다. 이로써 넣기에 성공한 이벤트는 닫기 전에 소비자가 본
+ * 일련번호 안에 들어 있으므로, 소비자가 닫힌 것을 본 뒤 링이 빌 때까지 꺼내면 받아들인 이벤트를 모두 꺼내게 된다.
+ */
+final class EventRing {
+
+    @FunctionalInterface
+    interface Consumer {
+
+        void accept(long timestamp, long sessionId, byte mode, long guess, byte result);
+    }
+
+    // modes 칸에 이 값이 있으면 닫힌 뒤에 발행된 버림 표시다.
+    private static final byte DISCARDED = -1;
+
+    private final int mask;
+    private final long[] timestamps;
+    private final long[] sessionIds;
+    private final long[] guesses;
+    private final byte[] modes;
+    private final byte[] results;
+    // 칸에 발행된 일련번호 + 1. 0 이면 아직 한 번도 발행되지 않은 칸이다.
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+
+    /**
+     * @param capacity 2의 거듭제곱
+     */
+    EventRing(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.timestamps = new long[capacity];
+        this.sessionIds = new long[capacity];
+        this.guesses = new long[capacity];
+        this.modes = new byte[capacity];
+        this.results = new byte[capacity];
+        this.published = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * 이벤트를 넣는다. 링이 가득 차 있으면 소비자가 자리를 비울 때까지 기다린다.
+     *
+     * @throws IllegalStateException 기다리는 동안이나 칸을 얻은 뒤 {@code closed} 가 {@code true} 를 반환하는 경우
+     */
+    void publish(long timestamp, long sessionId, byte mode, long guess, byte result, BooleanSupplier closed) {
+        // 자리가 생긴 뒤에만 일련번호를 얻는다. 얻은 번호는 반드시 발행해야 소비자가 그 뒤 칸으로 넘어갈 수 있다.
+        long sequence;
+        do {
+            sequence = this.claimed.get();
+            while (sequence - this.consumed.get() > this.mask) {
+                if (closed.getAsBoolean()) {
+                    throw new IllegalStateException("Journal is closed");
+                }
+                Thread.onSpinWait();
+                sequence = this.claimed.get();
+            }
+        } while (!this.claimed.compareAndSet(sequence, sequence + 1));
+        int index = (int) sequence & this.mask;
+        if (closed.getAsBoolean()) {
+            this.modes[index] = DISCARDED;
+            this.published.lazySet(index, sequence + 1);
+            throw new IllegalStateException("Journal is closed");
+        }
+        this.timestamps[index] = timestamp;
+        this.sessionIds[index] = sessionId;
+        this.guesses[index] = guess;
+        this.modes[index] = mode;
+        this.results[index] = result;
+        this.published.lazySet(index, sequence + 1);
+    }
+
+    /**
+     * 발행된 칸을 순서대로 최대 {@code limit} 개 꺼내 이벤트를 {@code consumer} 에 전달하고 꺼낸 칸 수를 반환한다.
+     * 버림 표시는 전달하지 않지만 꺼낸 칸 수에는 들어간다.
+     * 한 스레드에서만 호출해야 한다.
+     */
+    int drain(Consumer consumer, int limit) {
+        long next = this.consumed.get();
+        int count = 0;
+        while (count < limit) {
+            int index = (int) next & this.mask;
+            if (this.published.get(index) != next + 1) {
+                break;
+            }
+            if (this.modes[index] != DISCARDED) {
+                consumer.accept(this.timestamps[index], this.sessionIds[index], this.modes[index],
+                        this.guesses[index], this.results[index]);
+            }
+            next++;
+            count++;
+        }
+        if (count > 0) {
+            this.consumed.lazySet(next);
+        }
+        return count;
+    }
+
+    /**
+     * 넣기 시작한 이벤트가 모두 꺼내졌는지 여부.
+     */
+    boolean isEmpty() {
+        return this.consumed.get() == this.claimed.get();
+    }
+}
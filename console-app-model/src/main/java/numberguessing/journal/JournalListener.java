@@ -0,0 +1,24 @@
+package numberguessing.journal;
+
+import numberguessing.console.GameListener;
+import numberguessing.console.GameMode;
+import numberguessing.console.GuessResult;
+
+/**
+ * 한 세션에서 처리된 추측을 {@link EventJournal} 에 기록하는 {@link GameListener}.
+ */
+public class JournalListener implements GameListener {
+
+    private final EventJournal journal;
+    private final long sessionId;
+
+    public JournalListener(EventJournal journal, long sessionId) {
+        this.journal = journal;
+        this.sessionId = sessionId;
+    }
+
+    @Override
+    public void guessProcessed(GameMode mode, long guess, GuessResult result) {
+        this.journal.append(this.sessionId, mode, guess, result);
+    }
+}
@@ -0,0 +1,92 @@
+package numberguessing.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static numberguessing.journal.JournalSegments.*;
+
+/**
+ * {@link EventJournal} 이 기록한 세그먼트를 처음부터 순서대로 읽는다.
+ * <p>
+ * {@link #poll(TurnEventHandler)} 는 지금까지 기록이 끝난 레코드를 모두 읽고 멈추며, 다음 호출은 그 뒤부터 읽는다.
+ * 한 번 호출하면 저널 전체를 재생하고, 주기적으로 호출하면 기록 중인 저널을 뒤따라 읽는다.
+ * 다른 프로세스가 기록 중인 저널도 읽을 수 있다.
+ */
+public class JournalReader implements AutoCloseable {
+
+    private final Path directory;
+    private MappedByteBuffer segment;
+    private long segmentFirstRecord;
+    private int segmentPosition;
+
+    public JournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 기록이 끝난 다음 레코드들을 차례대로 {@code handler} 에 전달하고 읽은 레코드 수를 반환한다.
+     */
+    public int poll(TurnEventHandler handler) throws IOException {
+        if (this.segment == null && !openFirstSegment()) {
+            return 0;
+        }
+        int count = 0;
+        while (true) {
+            if (this.segmentPosition == this.segment.capacity()
+                    && !openSegment(this.segmentFirstRecord + this.segment.capacity() / RECORD_SIZE)) {
+                return count;
+            }
+            MappedByteBuffer buffer = this.segment;
+            int offset = this.segmentPosition;
+            if ((int) COMMIT.getAcquire(buffer, offset + COMMIT_OFFSET) != COMMITTED) {
+                return count;
+            }
+            handler.onTurn(buffer.getLong(offset + TIMESTAMP_OFFSET),
+                    buffer.getLong(offset + SESSION_OFFSET),
+                    mode(buffer.get(offset + MODE_OFFSET)),
+                    buffer.getLong(offset + GUESS_OFFSET),
+                    result(buffer.get(offset + RESULT_OFFSET)));
+            this.segmentPosition = offset + RECORD_SIZE;
+            count++;
+        }
+    }
+
+    /**
+     * 다음에 읽을 레코드의 일련번호.
+     */
+    public long position() {
+        return this.segment == null ? 0 : this.segmentFirstRecord + this.segmentPosition / RECORD_SIZE;
+    }
+
+    @Override
+    public void close() {
+        this.segment = null;
+    }
+
+    private boolean openFirstSegment() throws IOException {
+        long[] segments = listSegments(this.directory);
+        return segments.length > 0 && openSegment(segments[0]);
+    }
+
+    // 기록자가 아직 만들지 않았거나 크기를 정하지 않은 세그먼트는 열지 않는다.
+    private boolean openSegment(long firstRecord) throws IOException {
+        Path path = segmentPath(this.directory, firstRecord);
+        if (!Files.exists(path)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            long size = channel.size();
+            if (size < RECORD_SIZE) {
+                return false;
+            }
+            this.segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, size - size % RECORD_SIZE);
+        }
+        this.segmentFirstRecord = firstRecord;
+        this.segmentPosition = 0;
+        return true;
+    }
+}
@@ -0,0 +1,75 @@
+package numberguessing.journal;
+
+import numberguessing.console.GameMode;
+import numberguessing.console.GuessResult;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * 저널 세그먼트 파일의 레이아웃. 세그먼트는 고정 크기 레코드의 배열이며, 파일 이름은 첫 레코드의 일련번호다.
+ * <pre>
+ * offset  0: timestamp  i64 (에포크 밀리초)
+ * offset  8: sessionId  i64
+ * offset 16: guess      i64
+ * offset 24: mode       u8  ({@link numberguessing.console.GameMode} 순서)
+ * offset 25: result     u8  ({@link numberguessing.console.GuessResult} 순서)
+ * offset 26: (예약)     u16
+ * offset 28: commit     i32 ({@link #COMMITTED} 이면 기록이 끝난 레코드)
+ * </pre>
+ * 기록자는 나머지 필드를 모두 쓴 뒤 commit 필드를 release 로 쓰고, 읽는 쪽은 commit 필드를 acquire 로 읽으므로
+ * commit 이 보이는 레코드는 항상 완전하다.
+ */
+final class JournalSegments {
+
+    static final int RECORD_SIZE = 32;
+    static final int TIMESTAMP_OFFSET = 0;
+    static final int SESSION_OFFSET = 8;
+    static final int GUESS_OFFSET = 16;
+    static final int MODE_OFFSET = 24;
+    static final int RESULT_OFFSET = 25;
+    static final int COMMIT_OFFSET = 28;
+    static final int COMMITTED = 0x4A524E4C;
+
+    static final VarHandle COMMIT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final String SUFFIX = ".journal";
+    private static final GameMode[] MODES = GameMode.values();
+    private static final GuessResult[] RESULTS = GuessResult.values();
+
+    private JournalSegments() {
+    }
+
+    static Path segmentPath(Path directory, long firstRecord) {
+        return directory.resolve("%020d%s".formatted(firstRecord, SUFFIX));
+    }
+
+    /**
+     * 디렉터리에 있는 세그먼트들의 첫 레코드 일련번호를 오름차순으로 반환한다.
+     */
+    static long[] listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new long[0];
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SUFFIX))
+                    .mapToLong(name -> Long.parseLong(name, 0, name.length() - SUFFIX.length(), 10))
+                    .sorted()
+                    .toArray();
+        }
+    }
+
+    static GameMode mode(byte ordinal) {
+        return MODES[ordinal];
+    }
+
+    static GuessResult result(byte ordinal) {
+        return RESULTS[ordinal];
+    }
+}
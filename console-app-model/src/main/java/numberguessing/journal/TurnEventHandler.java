@@ -0,0 +1,16 @@
+package numberguessing.journal;
+
+import numberguessing.console.GameMode;
+import numberguessing.console.GuessResult;
+
+/**
+ * 저널에 기록된 턴 이벤트를 하나씩 받는다. 이벤트마다 객체를 만들지 않도록 필드를 인자로 그대로 전달한다.
+ */
+@FunctionalInterface
+public interface TurnEventHandler {
+
+    /**
+     * @param timestamp 턴이 처리된 시각(에포크 밀리초)
+     */
+    void onTurn(long timestamp, long sessionId, GameMode mode, long guess, GuessResult result);
+}
@@ -0,0 +1,48 @@
+package numberguessing.leaderboard;
+
+import java.util.Arrays;
+
+/**
+ * 추측 횟수별 게임 수. 추측 횟수가 작은 정수이므로 칸마다 정확히 센다.
+ * <p>
+ * 칸은 기록된 가장 큰 값까지만 늘리며 {@value #MAX_TRACKED_GUESSES} 를 넘는 값은 마지막 칸에 모은다. 그 칸에 걸리는
+ * 백분위수는 지금까지 기록된 가장 큰 값으로 답한다. 동기화하지 않으므로 호출자가 잠가야 한다.
+ */
+final class GuessHistogram {
+
+    static final int MAX_TRACKED_GUESSES = 1024;
+
+    private long[] counts = new long[16];
+    private long count;
+    private int max;
+
+    void record(int guesses) {
+        int index = Math.min(Math.max(guesses, 0), MAX_TRACKED_GUESSES);
+        if (index >= this.counts.length) {
+            this.counts = Arrays.copyOf(this.counts, Math.min(Math.max(index + 1, this.counts.length * 2),
+                    MAX_TRACKED_GUESSES + 1));
+        }
+        this.counts[index]++;
+        this.count++;
+        this.max = Math.max(this.max, guesses);
+    }
+
+    /**
+     * @param percentile 0 초과 100 이하
+     * @return 기록된 값의 {@code percentile} 백분위수. 기록이 없으면 0
+     */
+    int percentile(double percentile) {
+        if (this.count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * this.count));
+        long seen = 0;
+        for (int i = 0; i < this.counts.length; i++) {
+            seen += this.counts[i];
+            if (seen >= rank) {
+                return i == MAX_TRACKED_GUESSES ? this.max : i;
+            }
+        }
+        return this.max;
+    }
+}
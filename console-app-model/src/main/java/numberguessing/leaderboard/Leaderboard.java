@@ -0,0 +1,180 @@
+package numberguessing.leaderboard;
+
+import numberguessing.console.GameListener;
+import numberguessing.console.GameResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 끝난 게임의 결과를 플레이어 이름별로 모으는 순위표.
+ * <p>
+ * 결과 하나는 그 플레이어의 누적 값(승리 수, 추측 횟수 합, 최고 기록, 추측 횟수 히스토그램)만 고치고, 순위는
+ * {@link ConcurrentSkipListSet} 에서 그 플레이어의 줄 하나만 빼고 다시 넣으므로 O(log n) 이다. 서로 다른 플레이어의
+ * 결과는 잠금 없이 동시에 기록된다.
+ * <p>
+ * 앞의 {@code cachedEntries} 줄은 캐시하여 {@link #top(int)} 가 목록을 다시 만들지 않고 반환한다. 결과가 캐시된 줄에 들어가거나
+ * 캐시된 줄을 바꿀 때만 캐시를 무효화하므로, 대부분의 결과는 캐시를 건드리지 않는다.
+ * <p>
+ * 리스너로 쓰면 멀티 플레이 게임의 승자를 기록한다. 싱글 플레이 게임은 이름이 없으므로 {@link #forPlayer(String)} 로 만든
+ * 리스너를 세션에 붙여야 기록된다.
+ */
+public class Leaderboard implements GameListener {
+
+    static final int DEFAULT_CACHED_ENTRIES = 100;
+
+    static final Comparator<PlayerStanding> RANKING = Comparator
+            .comparingLong(PlayerStanding::wins).reversed()
+            .thenComparingDouble(PlayerStanding::meanGuesses)
+            .thenComparingInt(PlayerStanding::bestGuesses)
+            .thenComparing(PlayerStanding::player);
+
+    private final int cachedEntries;
+    private final ConcurrentHashMap<String, PlayerRecord> players = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<PlayerStanding> ranking = new ConcurrentSkipListSet<>(RANKING);
+    private final AtomicLong version = new AtomicLong();
+    private volatile TopEntries cache;
+
+    public Leaderboard() {
+        this(DEFAULT_CACHED_ENTRIES);
+    }
+
+    /**
+     * @param cachedEntries 캐시할 앞쪽 순위 줄 수. 이보다 많이 요청하면 매번 순위를 훑는다.
+     */
+    public Leaderboard(int cachedEntries) {
+        if (cachedEntries <= 0) {
+            throw new IllegalArgumentException("Invalid cached entries: " + cachedEntries);
+        }
+        this.cachedEntries = cachedEntries;
+    }
+
+    /**
+     * 싱글 플레이 게임의 결과는 {@code player} 이름으로, 멀티 플레이 게임의 결과는 승자 이름으로 기록하는 리스너를 만든다.
+     */
+    public GameListener forPlayer(String player) {
+        return new GameListener() {
+            @Override
+            public void gameFinished(GameResult result) {
+                record(result.winner() != null ? result.winner() : player, result.guesses());
+            }
+        };
+    }
+
+    @Override
+    public void gameFinished(GameResult result) {
+        if (result.winner() != null) {
+            record(result.winner(), result.guesses());
+        }
+    }
+
+    /**
+     * {@code player} 가 {@code guesses} 번 만에 이긴 게임을 기록한다.
+     */
+    public void record(String player, int guesses) {
+        PlayerRecord record = this.players.computeIfAbsent(player, PlayerRecord::new);
+        synchronized (record) {
+            PlayerStanding previous = record.standing;
+            PlayerStanding current = record.add(guesses);
+            if (previous != null) {
+                this.ranking.remove(previous);
+            }
+            this.ranking.add(current);
+            invalidate(previous, current);
+        }
+    }
+
+    /**
+     * 앞에서부터 최대 {@code limit} 줄의 순위를 반환한다. 반환한 목록은 바뀌지 않는다.
+     */
+    public List<PlayerStanding> top(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Invalid limit: " + limit);
+        }
+        if (limit > this.cachedEntries) {
+            return collect(limit);
+        }
+        TopEntries entries = this.cache;
+        if (entries == null || entries.version != this.version.get()) {
+            long version = this.version.get();
+            entries = new TopEntries(version, collect(this.cachedEntries));
+            if (this.version.get() == version) {
+                this.cache = entries;
+            }
+        }
+        List<PlayerStanding> standings = entries.standings;
+        return standings.size() <= limit ? standings : standings.subList(0, limit);
+    }
+
+    /**
+     * 플레이어의 통계를 반환한다. 기록이 없으면 {@code null} 을 반환한다.
+     */
+    public PlayerStatistics statistics(String player) {
+        PlayerRecord record = this.players.get(player);
+        if (record == null) {
+            return null;
+        }
+        synchronized (record) {
+            return new PlayerStatistics(record.standing, record.histogram.percentile(50),
+                    record.histogram.percentile(90), record.histogram.percentile(99));
+        }
+    }
+
+    public int playerCount() {
+        return this.players.size();
+    }
+
+    // 캐시가 없거나 이미 무효이면, 캐시를 만드는 중인 조회가 이 변경 전의 순위를 담지 않도록 버전을 올린다.
+    private void invalidate(PlayerStanding previous, PlayerStanding current) {
+        TopEntries entries = this.cache;
+        if (entries == null || entries.version != this.version.get()
+                || entries.contains(previous, this.cachedEntries) || entries.contains(current, this.cachedEntries)) {
+            this.version.incrementAndGet();
+        }
+    }
+
+    private List<PlayerStanding> collect(int limit) {
+        List<PlayerStanding> standings = new ArrayList<>(Math.min(limit, this.cachedEntries));
+        for (PlayerStanding standing : this.ranking) {
+            if (standings.size() == limit) {
+                break;
+            }
+            standings.add(standing);
+        }
+        return List.copyOf(standings);
+    }
+
+    private record TopEntries(long version, List<PlayerStanding> standings) {
+
+        // 캐시된 줄이 가득 차지 않았으면 어떤 줄이든 들어올 수 있다.
+        boolean contains(PlayerStanding standing, int limit) {
+            return standing != null && (this.standings.size() < limit
+                    || RANKING.compare(standing, this.standings.get(this.standings.size() - 1)) <= 0);
+        }
+    }
+
+    private static final class PlayerRecord {
+
+        private final String player;
+        private final GuessHistogram histogram = new GuessHistogram();
+        private PlayerStanding standing;
+
+        PlayerRecord(String player) {
+            this.player = player;
+        }
+
+        PlayerStanding add(int guesses) {
+            PlayerStanding previous = this.standing;
+            this.histogram.record(guesses);
+            this.standing = previous == null
+                    ? new PlayerStanding(this.player, 1, guesses, guesses)
+                    : new PlayerStanding(this.player, previous.wins() + 1, previous.totalGuesses() + guesses,
+                    Math.min(previous.bestGuesses(), guesses));
+            return this.standing;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package numberguessing.leaderboard;
+
+/**
+ * 순위표의 한 줄. 승리 수가 많을수록, 같으면 평균 추측 횟수가 적을수록, 그래도 같으면 최고 기록이 좋을수록 앞에 온다.
+ *
+ * @param player       플레이어 이름
+ * @param wins         이긴 게임 수. 싱글 플레이 게임은 끝까지 맞추면 이긴 것으로 센다.
+ * @param totalGuesses 이긴 게임들의 추측 횟수 합
+ * @param bestGuesses  가장 적은 추측 횟수로 이긴 기록
+ */
+public record PlayerStanding(String player, long wins, long totalGuesses, int bestGuesses) {
+
+    public double meanGuesses() {
+        return this.wins == 0 ? 0.0 : (double) this.totalGuesses / this.wins;
+    }
+}
@@ -0,0 +1,12 @@
+package numberguessing.leaderboard;
+
+/**
+ * 한 플레이어가 이긴 게임들의 추측 횟수 통계.
+ *
+ * @param standing    순위표에 쓰이는 누적 값
+ * @param p50Guesses  추측 횟수의 중앙값
+ * @param p90Guesses  추측 횟수의 90 백분위수
+ * @param p99Guesses  추측 횟수의 99 백분위수
+ */
+public record PlayerStatistics(PlayerStanding standing, int p50Guesses, int p90Guesses, int p99Guesses) {
+}
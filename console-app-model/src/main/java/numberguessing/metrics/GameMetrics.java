@@ -0,0 +1,92 @@
+package numberguessing.metrics;
+
+import numberguessing.console.GameListener;
+import numberguessing.console.GameMode;
+import numberguessing.console.GameResult;
+import numberguessing.console.GuessResult;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게임 수, 추측 수, 승리 수, 잘못된 입력 수와 입력 처리·출력 비우기 지연 시간을 모으는 {@link GameListener}.
+ * <p>
+ * 인스턴스 하나를 여러 세션의 모델이 함께 사용할 수 있다. 카운터는 {@link LongAdder} 이므로 동시에 기록해도 경합하지 않는다.
+ */
+public class GameMetrics implements GameListener {
+
+    private static final int MODES = GameMode.values().length;
+
+    private final LongAdder[] gamesStarted = newAdders(MODES);
+    private final LongAdder[] wins = newAdders(MODES);
+    private final LongAdder guessesProcessed = new LongAdder();
+    private final LongAdder invalidInputs = new LongAdder();
+    private final LatencyHistogram processInputLatency = new LatencyHistogram();
+    private final LatencyHistogram flushOutputLatency = new LatencyHistogram();
+
+    private static LongAdder[] newAdders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    @Override
+    public void gameStarted(GameMode mode) {
+        this.gamesStarted[mode.ordinal()].increment();
+    }
+
+    @Override
+    public void guessProcessed(GameMode mode, long guess, GuessResult result) {
+        this.guessesProcessed.increment();
+    }
+
+    @Override
+    public void gameFinished(GameResult result) {
+        this.wins[result.mode().ordinal()].increment();
+    }
+
+    @Override
+    public void inputRejected() {
+        this.invalidInputs.increment();
+    }
+
+    @Override
+    public boolean recordsLatency() {
+        return true;
+    }
+
+    @Override
+    public void inputProcessed(long elapsedNanos) {
+        this.processInputLatency.record(elapsedNanos);
+    }
+
+    @Override
+    public void outputFlushed(long elapsedNanos) {
+        this.flushOutputLatency.record(elapsedNanos);
+    }
+
+    public long gamesStarted(GameMode mode) {
+        return this.gamesStarted[mode.ordinal()].sum();
+    }
+
+    public long wins(GameMode mode) {
+        return this.wins[mode.ordinal()].sum();
+    }
+
+    public long guessesProcessed() {
+        return this.guessesProcessed.sum();
+    }
+
+    public long invalidInputs() {
+        return this.invalidInputs.sum();
+    }
+
+    public LatencyHistogram processInputLatency() {
+        return this.processInputLatency;
+    }
+
+    public LatencyHistogram flushOutputLatency() {
+        return this.flushOutputLatency;
+    }
+}
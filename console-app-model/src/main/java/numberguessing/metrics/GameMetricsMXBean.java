@@ -0,0 +1,39 @@
+package numberguessing.metrics;
+
+/**
+ * JMX 로 노출되는 {@link GameMetrics} 의 속성. 지연 시간은 나노초 단위이다.
+ */
+public interface GameMetricsMXBean {
+
+    long getSinglePlayerGamesStarted();
+
+    long getMultiplayerGamesStarted();
+
+    long getSinglePlayerWins();
+
+    long getMultiplayerWins();
+
+    long getGuessesProcessed();
+
+    long getInvalidInputs();
+
+    long getProcessInputCount();
+
+    long getProcessInputP50Nanos();
+
+    long getProcessInputP99Nanos();
+
+    long getProcessInputP999Nanos();
+
+    long getProcessInputMaxNanos();
+
+    long getFlushOutputCount();
+
+    long getFlushOutputP50Nanos();
+
+    long getFlushOutputP99Nanos();
+
+    long getFlushOutputP999Nanos();
+
+    long getFlushOutputMaxNanos();
+}
@@ -0,0 +1,139 @@
+package numberguessing.metrics;
+
+import numberguessing.console.GameMode;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * {@link GameMetrics} 를 플랫폼 MBean 서버에 {@link GameMetricsMXBean} 으로 등록한다. 속성은 읽을 때마다 새로 계산된다.
+ */
+public class JmxMetricsReporter implements MetricsReporter {
+
+    public static final String DEFAULT_OBJECT_NAME = "numberguessing:type=GameMetrics";
+
+    private final MBeanServer server;
+    private final ObjectName name;
+
+    public JmxMetricsReporter(GameMetrics metrics) {
+        this(metrics, DEFAULT_OBJECT_NAME);
+    }
+
+    /**
+     * @throws IllegalArgumentException 이름이 올바르지 않거나 같은 이름으로 이미 등록되어 있는 경우
+     */
+    public JmxMetricsReporter(GameMetrics metrics, String objectName) {
+        this.server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            this.name = new ObjectName(objectName);
+            this.server.registerMBean(new Bean(metrics), this.name);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException("Invalid object name: " + objectName, e);
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Cannot register " + objectName, e);
+        }
+    }
+
+    public ObjectName objectName() {
+        return this.name;
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.server.unregisterMBean(this.name);
+        } catch (InstanceNotFoundException e) {
+            // 이미 해제됨
+        } catch (MBeanRegistrationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Bean(GameMetrics metrics) implements GameMetricsMXBean {
+
+        @Override
+        public long getSinglePlayerGamesStarted() {
+            return this.metrics.gamesStarted(GameMode.SINGLE_PLAYER);
+        }
+
+        @Override
+        public long getMultiplayerGamesStarted() {
+            return this.metrics.gamesStarted(GameMode.MULTIPLAYER);
+        }
+
+        @Override
+        public long getSinglePlayerWins() {
+            return this.metrics.wins(GameMode.SINGLE_PLAYER);
+        }
+
+        @Override
+        public long getMultiplayerWins() {
+            return this.metrics.wins(GameMode.MULTIPLAYER);
+        }
+
+        @Override
+        public long getGuessesProcessed() {
+            return this.metrics.guessesProcessed();
+        }
+
+        @Override
+        public long getInvalidInputs() {
+            return this.metrics.invalidInputs();
+        }
+
+        @Override
+        public long getProcessInputCount() {
+            return this.metrics.processInputLatency().count();
+        }
+
+        @Override
+        public long getProcessInputP50Nanos() {
+            return this.metrics.processInputLatency().percentile(0.50);
+        }
+
+        @Override
+        public long getProcessInputP99Nanos() {
+            return this.metrics.processInputLatency().percentile(0.99);
+        }
+
+        @Override
+        public long getProcessInputP999Nanos() {
+            return this.metrics.processInputLatency().percentile(0.999);
+        }
+
+        @Override
+        public long getProcessInputMaxNanos() {
+            return this.metrics.processInputLatency().max();
+        }
+
+        @Override
+        public long getFlushOutputCount() {
+            return this.metrics.flushOutputLatency().count();
+        }
+
+        @Override
+        public long getFlushOutputP50Nanos() {
+            return this.metrics.flushOutputLatency().percentile(0.50);
+        }
+
+        @Override
+        public long getFlushOutputP99Nanos() {
+            return this.metrics.flushOutputLatency().percentile(0.99);
+        }
+
+        @Override
+        public long getFlushOutputP999Nanos() {
+            return this.metrics.flushOutputLatency().percentile(0.999);
+        }
+
+        @Override
+        public long getFlushOutputMaxNanos() {
+            return this.metrics.flushOutputLatency().max();
+        }
+    }
+}
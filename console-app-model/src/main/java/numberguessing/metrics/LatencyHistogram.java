@@ -0,0 +1,97 @@
+package numberguessing.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 스레드가 동시에 기록하는 지연 시간(ns)의 로그-선형 히스토그램.
+ * <p>
+ * 값을 2의 거듭제곱 구간으로 나누고 각 구간을 다시 {@value #SUB_BUCKETS} 개로 나누므로, 백분위수는 최대 1/{@value #SUB_BUCKETS}
+ * 의 상대 오차를 가진다. 각 칸은 {@link LongAdder} 라서 같은 칸에 동시에 기록해도 경합하지 않는다.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 값을 기록한다. 음수는 0 으로 기록한다.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        this.counts[bucketIndex(value)].increment();
+        this.total.add(value);
+        this.max.accumulate(value);
+    }
+
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : this.counts) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long max() {
+        return this.max.get();
+    }
+
+    public double mean() {
+        long count = count();
+        return count == 0 ? 0.0 : (double) this.total.sum() / count;
+    }
+
+    /**
+     * 기록된 값 중 {@code percentile} 비율(0 ~ 1)만큼이 그 이하인 값을 칸의 상한으로 반환한다. 기록이 없으면 0 을 반환한다.
+     */
+    public long percentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = this.counts[i].sum();
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile * count));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= target) {
+                return Math.min(bucketUpperBound(i), max());
+            }
+        }
+        return max();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // 곱셈이 넘치는 마지막 칸은 Long.MAX_VALUE 가 된다.
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
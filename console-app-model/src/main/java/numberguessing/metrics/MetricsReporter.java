@@ -0,0 +1,13 @@
+package numberguessing.metrics;
+
+/**
+ * {@link GameMetrics} 를 바깥으로 내보내는 방법. 만들어질 때 내보내기 시작하고 닫히면 멈춘다.
+ *
+ * @see JmxMetricsReporter
+ * @see TextMetricsReporter
+ */
+public interface MetricsReporter extends AutoCloseable {
+
+    @Override
+    void close();
+}
@@ -0,0 +1,89 @@
+package numberguessing.metrics;
+
+import numberguessing.console.GameMode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GameMetrics} 를 주기적으로 사람이 읽을 수 있는 텍스트로 {@link Appendable} 에 쓴다. 닫을 때 마지막으로 한 번 더 쓴다.
+ * <p>
+ * 주기적인 쓰기가 실패해도 다음 주기에 다시 쓴다. 처음 실패한 예외는 기록해 두었다가 닫을 때 던진다.
+ */
+public class TextMetricsReporter implements MetricsReporter {
+
+    private final GameMetrics metrics;
+    private final Appendable output;
+    private final ScheduledExecutorService scheduler;
+    private volatile RuntimeException failure;
+
+    public TextMetricsReporter(GameMetrics metrics, Appendable output, Duration period) {
+        this.metrics = metrics;
+        this.output = output;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodNanos = period.toNanos();
+        this.scheduler.scheduleAtFixedRate(this::reportPeriodically, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 현재 값을 텍스트로 만든다.
+     */
+    public static String format(GameMetrics metrics) {
+        return "games started: single=%d multi=%d, wins: single=%d multi=%d, guesses=%d, invalid inputs=%d%n"
+                .formatted(metrics.gamesStarted(GameMode.SINGLE_PLAYER), metrics.gamesStarted(GameMode.MULTIPLAYER),
+                        metrics.wins(GameMode.SINGLE_PLAYER), metrics.wins(GameMode.MULTIPLAYER),
+                        metrics.guessesProcessed(), metrics.invalidInputs())
+                + formatLatency("processInput", metrics.processInputLatency())
+                + formatLatency("flushOutput", metrics.flushOutputLatency());
+    }
+
+    private static String formatLatency(String name, LatencyHistogram histogram) {
+        return "%s: count=%d mean=%.0f ns p50=%d ns p99=%d ns p99.9=%d ns max=%d ns%n".formatted(name,
+                histogram.count(), histogram.mean(), histogram.percentile(0.50), histogram.percentile(0.99),
+                histogram.percentile(0.999), histogram.max());
+    }
+
+    // 예외가 작업 밖으로 나가면 scheduleAtFixedRate 가 이후 실행을 모두 취소하므로 여기서 받아 둔다.
+    private void reportPeriodically() {
+        try {
+            report();
+        } catch (RuntimeException e) {
+            if (this.failure == null) {
+                this.failure = e;
+            }
+        }
+    }
+
+    private void report() {
+        String report = format(this.metrics);
+        try {
+            synchronized (this.output) {
+                this.output.append(report);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+        try {
+            this.scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        report();
+        if (this.failure != null) {
+            throw new IllegalStateException("Metrics report failed", this.failure);
+        }
+    }
+}
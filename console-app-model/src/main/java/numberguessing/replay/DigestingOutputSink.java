@@ -0,0 +1,76 @@
+package numberguessing.replay;
+
+import numberguessing.console.EncodedText;
+import numberguessing.console.OutputSink;
+
+/**
+ * 출력을 다른 sink 에 그대로 넘기면서, 지금까지 나간 문자열의 64비트 FNV-1a 해시를 계산하는 {@link OutputSink}.
+ * <p>
+ * 해시는 출력된 문자들로만 계산하므로 모델이 출력을 어떤 조각으로 나누어 쓰는지와 상관없이 같다. 문자열을 만들지 않는다.
+ */
+public final class DigestingOutputSink implements OutputSink {
+
+    static final long EMPTY = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private final OutputSink target;
+    private long digest = EMPTY;
+
+    public DigestingOutputSink(OutputSink target) {
+        this.target = target;
+    }
+
+    /**
+     * 마지막 호출 뒤로 출력된 문자열의 해시를 반환하고 다시 처음부터 계산한다.
+     */
+    public long takeDigest() {
+        long digest = this.digest;
+        this.digest = EMPTY;
+        return digest;
+    }
+
+    @Override
+    public void writeMessage(String message) {
+        update(message);
+        this.target.writeMessage(message);
+    }
+
+    @Override
+    public void writeText(CharSequence text) {
+        update(text);
+        this.target.writeText(text);
+    }
+
+    @Override
+    public void writeEncoded(EncodedText text) {
+        update(text.text());
+        this.target.writeEncoded(text);
+    }
+
+    @Override
+    public void writeNumber(int number) {
+        long value = number;
+        if (value < 0) {
+            update('-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (divisor * 10 <= value) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            update((char) ('0' + value / divisor % 10));
+        }
+        this.target.writeNumber(number);
+    }
+
+    private void update(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            update(text.charAt(i));
+        }
+    }
+
+    private void update(char c) {
+        this.digest = (this.digest ^ c) * PRIME;
+    }
+}
@@ -0,0 +1,38 @@
+package numberguessing.replay;
+
+import java.util.List;
+
+/**
+ * {@link TrafficReplayer} 의 재생 결과.
+ *
+ * @param sessions        재생한 세션 수
+ * @param inputs          처리한 입력 수
+ * @param mismatches      출력이 기록과 달랐던 세션 수
+ * @param sampledMismatches 출력이 달랐던 위치 중 일부. 기록 순서로 정렬되어 있다.
+ * @param threads         재생에 쓴 스레드 수
+ * @param elapsedNanos    재생에 걸린 시간
+ */
+public record ReplayReport(long sessions, long inputs, long mismatches, List<Mismatch> sampledMismatches, int threads,
+                           long elapsedNanos) {
+
+    public boolean matches() {
+        return this.mismatches == 0;
+    }
+
+    public double inputsPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.inputs * 1e9 / this.elapsedNanos;
+    }
+
+    public double sessionsPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.sessions * 1e9 / this.elapsedNanos;
+    }
+
+    /**
+     * 출력이 기록과 처음 달랐던 위치.
+     *
+     * @param session 기록에서 세션의 순서
+     * @param input   달랐던 출력을 낸 입력의 순서. 모델을 만들 때의 출력이면 -1 이다.
+     */
+    public record Mismatch(int session, int input) {
+    }
+}
@@ -0,0 +1,82 @@
+package numberguessing.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기록된 세션 하나. 정답 생성기의 시드와 입력 줄, 그리고 출력 해시로 이루어진다.
+ * <p>
+ * {@code outputDigests[0]} 은 모델을 만들 때 나온 출력의 해시이고, {@code outputDigests[i + 1]} 은 {@code inputs.get(i)} 를
+ * 처리하여 나온 출력의 해시다({@link DigestingOutputSink}).
+ * <p>
+ * 파일은 헤더 뒤에 세션을 끝난 순서대로 이어 붙인 것이다.
+ * <pre>
+ * header : magic i32, version i32
+ * session: seed i64, inputCount i32, outputDigests[0] i64, (input UTF, outputDigest i64) * inputCount
+ * </pre>
+ */
+public record SessionRecording(long seed, List<String> inputs, long[] outputDigests) {
+
+    static final int MAGIC = 0x4E475243;
+    static final int VERSION = 1;
+
+    public SessionRecording {
+        inputs = List.copyOf(inputs);
+        if (outputDigests.length != inputs.size() + 1) {
+            throw new IllegalArgumentException(
+                    "Expected %d output digests but got %d".formatted(inputs.size() + 1, outputDigests.length));
+        }
+    }
+
+    /**
+     * {@link TrafficRecorder} 가 쓴 세션들을 모두 읽는다.
+     *
+     * @throws IOException 형식이 올바르지 않거나 읽을 수 없는 경우
+     */
+    public static List<SessionRecording> readAll(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a traffic recording");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported recording version: " + version);
+        }
+        List<SessionRecording> sessions = new ArrayList<>();
+        while (true) {
+            long seed;
+            try {
+                seed = in.readLong();
+            } catch (EOFException e) {
+                return sessions;
+            }
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("Invalid input count: " + count);
+            }
+            List<String> inputs = new ArrayList<>(count);
+            long[] digests = new long[count + 1];
+            digests[0] = in.readLong();
+            for (int i = 0; i < count; i++) {
+                inputs.add(in.readUTF());
+                digests[i + 1] = in.readLong();
+            }
+            sessions.add(new SessionRecording(seed, inputs, digests));
+        }
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(this.seed);
+        out.writeInt(this.inputs.size());
+        out.writeLong(this.outputDigests[0]);
+        for (int i = 0; i < this.inputs.size(); i++) {
+            out.writeUTF(this.inputs.get(i));
+            out.writeLong(this.outputDigests[i + 1]);
+        }
+    }
+}
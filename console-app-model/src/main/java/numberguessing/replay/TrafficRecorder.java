@@ -0,0 +1,162 @@
+package numberguessing.replay;
+
+import numberguessing.PositiveIntegerGenerator;
+import numberguessing.SplittableRandomGenerator;
+import numberguessing.console.AppModel;
+import numberguessing.console.GameListener;
+import numberguessing.console.OutputSink;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 실제 트래픽을 {@link TrafficReplayer} 로 다시 돌릴 수 있게 세션별로 기록한다.
+ * <p>
+ * 세션마다 새 시드를 뽑아 {@link SplittableRandomGenerator} 를 만들어 주므로, 기록된 시드와 입력만으로 같은 정답과 같은 출력을
+ * 다시 만들 수 있다. 출력은 문자열 대신 입력마다 해시 하나만 남긴다. 세션은 {@link Session#finish()} 를 호출할 때
+ * {@link SessionRecording} 형식으로 스트림에 쓰며, 게임 도중에 끝난 세션도 그때까지의 입력으로 기록된다. 기록기를 닫은 뒤
+ * 끝난 세션은 기록되지 않는다.
+ * <p>
+ * 시간 제한이 있는 차례({@link numberguessing.console.TurnScheduler#timed})는 입력 시각에 따라 결과가 달라지므로 재생 결과가
+ * 기록과 다를 수 있다.
+ */
+public class TrafficRecorder implements AutoCloseable {
+
+    private final DataOutputStream out;
+    private final SplittableRandom seeds;
+    private long sessions;
+    private boolean closed;
+
+    /**
+     * 시드를 무작위로 뽑는 기록기를 만든다.
+     */
+    public TrafficRecorder(OutputStream out) throws IOException {
+        this(out, new SplittableRandom());
+    }
+
+    /**
+     * {@code seed} 로 세션 시드들을 정하는 기록기를 만든다. 같은 시드로 만든 기록기는 같은 순서로 같은 세션 시드를 준다.
+     */
+    public TrafficRecorder(OutputStream out, long seed) throws IOException {
+        this(out, new SplittableRandom(seed));
+    }
+
+    private TrafficRecorder(OutputStream out, SplittableRandom seeds) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.seeds = seeds;
+        this.out.writeInt(SessionRecording.MAGIC);
+        this.out.writeInt(SessionRecording.VERSION);
+    }
+
+    /**
+     * 새 세션의 기록을 시작한다. 세션의 모델은 {@link Session#newModel(OutputSink, GameListener)} 로 만든다.
+     */
+    public synchronized Session startSession() {
+        return new Session(this, this.seeds.nextLong());
+    }
+
+    /**
+     * 지금까지 기록을 마친 세션 수
+     */
+    public synchronized long sessionCount() {
+        return this.sessions;
+    }
+
+    public synchronized void flush() throws IOException {
+        this.out.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.closed = true;
+        this.out.close();
+    }
+
+    private synchronized void write(SessionRecording recording) throws IOException {
+        if (this.closed) {
+            return;
+        }
+        recording.writeTo(this.out);
+        this.sessions++;
+    }
+
+    /**
+     * 기록 중인 세션 하나. 한 스레드에서만 사용한다.
+     */
+    public static final class Session {
+
+        private final TrafficRecorder recorder;
+        private final long seed;
+        private final List<String> inputs = new ArrayList<>();
+        private long[] digests = new long[16];
+        private DigestingOutputSink output;
+        private boolean finished;
+
+        private Session(TrafficRecorder recorder, long seed) {
+            this.recorder = recorder;
+            this.seed = seed;
+        }
+
+        public long seed() {
+            return this.seed;
+        }
+
+        /**
+         * 이 세션의 시드로 만든 정답 생성기
+         */
+        public PositiveIntegerGenerator generator() {
+            return new SplittableRandomGenerator(this.seed);
+        }
+
+        /**
+         * 이 세션의 모델을 만든다. 모델의 출력은 {@code target} 으로 그대로 나가며, 기록에는 해시만 남는다. 한 번만 호출할 수 있다.
+         */
+        public AppModel newModel(OutputSink target, GameListener listener) {
+            if (this.output != null) {
+                throw new IllegalStateException("Model already created");
+            }
+            this.output = new DigestingOutputSink(target);
+            AppModel model = new AppModel(generator(), this.output, listener);
+            this.digests[0] = this.output.takeDigest();
+            return model;
+        }
+
+        /**
+         * {@link AppModel#processInput(CharSequence)} 가 끝난 뒤 그 입력을 기록한다.
+         */
+        public void inputProcessed(CharSequence input) {
+            this.inputs.add(input.toString());
+            if (this.inputs.size() == this.digests.length) {
+                this.digests = Arrays.copyOf(this.digests, this.digests.length * 2);
+            }
+            this.digests[this.inputs.size()] = this.output.takeDigest();
+        }
+
+        /**
+         * {@link AppModel#processInput(byte[], int, int)} 가 끝난 뒤 그 입력을 기록한다.
+         */
+        public void inputProcessed(byte[] input, int offset, int length) {
+            inputProcessed(new String(input, offset, length, UTF_8));
+        }
+
+        /**
+         * 세션 기록을 마치고 기록기에 쓴다. 두 번째부터는 아무것도 하지 않는다.
+         */
+        public void finish() throws IOException {
+            if (this.finished) {
+                return;
+            }
+            this.finished = true;
+            this.recorder.write(new SessionRecording(this.seed, this.inputs,
+                    Arrays.copyOf(this.digests, this.inputs.size() + 1)));
+        }
+    }
+}
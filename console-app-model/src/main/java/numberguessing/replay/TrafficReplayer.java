@@ -0,0 +1,108 @@
+package numberguessing.replay;
+
+import numberguessing.SplittableRandomGenerator;
+import numberguessing.console.AppModel;
+import numberguessing.console.GameListener;
+import numberguessing.console.OutputSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link TrafficRecorder} 로 기록한 세션들을 여러 스레드에서 쉬지 않고 다시 돌리며 출력이 기록과 같은지 확인한다.
+ * <p>
+ * 세션마다 기록된 시드로 정답 생성기를 만들고, 출력은 버리면서 입력마다 해시만 기록과 비교한다. 스레드들은 세션을
+ * {@value #BATCH} 개씩 가져가 처리한다. 출력이 한 번 달라진 세션은 그 뒤 출력도 다를 것이므로 남은 입력을 건너뛴다.
+ */
+public class TrafficReplayer {
+
+    static final int BATCH = 64;
+    private static final int MAX_REPORTED_MISMATCHES = 10;
+
+    private final int threads;
+
+    public TrafficReplayer(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Invalid thread count: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    public ReplayReport replay(List<SessionRecording> sessions) throws InterruptedException {
+        AtomicInteger next = new AtomicInteger();
+        AtomicLong inputs = new AtomicLong();
+        AtomicLong mismatchCount = new AtomicLong();
+        List<ReplayReport.Mismatch> mismatches = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[this.threads];
+        for (int t = 0; t < workers.length; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long processed = 0;
+                int index;
+                while ((index = next.getAndAdd(BATCH)) < sessions.size()) {
+                    for (int i = index; i < Math.min(index + BATCH, sessions.size()); i++) {
+                        int input = replay(sessions.get(i));
+                        if (input == Integer.MAX_VALUE) {
+                            processed += sessions.get(i).inputs().size();
+                            continue;
+                        }
+                        processed += input + 1;
+                        mismatchCount.incrementAndGet();
+                        synchronized (mismatches) {
+                            if (mismatches.size() < MAX_REPORTED_MISMATCHES) {
+                                mismatches.add(new ReplayReport.Mismatch(i, input));
+                            }
+                        }
+                    }
+                }
+                inputs.addAndGet(processed);
+            }, "replayer-" + t);
+            workers[t].start();
+        }
+        long started = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - started;
+        List<ReplayReport.Mismatch> reported = new ArrayList<>(mismatches);
+        // 스레드마다 끝나는 순서가 다르므로 기록 순서로 정렬한다.
+        reported.sort((a, b) -> a.session() != b.session()
+                ? Integer.compare(a.session(), b.session())
+                : Integer.compare(a.input(), b.input()));
+        return new ReplayReport(sessions.size(), inputs.get(), mismatchCount.get(), List.copyOf(reported),
+                this.threads, elapsed);
+    }
+
+    /**
+     * 세션 하나를 재생하고, 출력이 처음 달랐던 입력의 순서를 반환한다. 모두 같으면 {@link Integer#MAX_VALUE} 를 반환한다.
+     */
+    static int replay(SessionRecording session) {
+        var output = new DigestingOutputSink(OutputSink.discard());
+        var model = new AppModel(new SplittableRandomGenerator(session.seed()), output, GameListener.NONE);
+        long[] digests = session.outputDigests();
+        if (output.takeDigest() != digests[0]) {
+            return -1;
+        }
+        List<String> inputs = session.inputs();
+        for (int i = 0; i < inputs.size(); i++) {
+            if (model.isCompleted()) {
+                // 기록에서는 게임이 끝난 뒤에도 입력이 있었다.
+                return i;
+            }
+            model.processInput(inputs.get(i));
+            if (output.takeDigest() != digests[i + 1]) {
+                return i;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,75 @@
+package numberguessing.simulation;
+
+import java.util.Arrays;
+
+/**
+ * 게임별 추측 횟수의 분포. {@code counts[n]} 은 n 번 만에 끝난 게임의 수이다.
+ */
+public final class GuessDistribution {
+
+    private long[] counts;
+    private long games;
+    private long guesses;
+
+    public GuessDistribution() {
+        this.counts = new long[16];
+    }
+
+    void record(int gameGuesses) {
+        if (gameGuesses >= this.counts.length) {
+            this.counts = Arrays.copyOf(this.counts, Math.max(gameGuesses + 1, this.counts.length * 2));
+        }
+        this.counts[gameGuesses]++;
+        this.games++;
+        this.guesses += gameGuesses;
+    }
+
+    GuessDistribution merge(GuessDistribution other) {
+        if (other.counts.length > this.counts.length) {
+            this.counts = Arrays.copyOf(this.counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            this.counts[i] += other.counts[i];
+        }
+        this.games += other.games;
+        this.guesses += other.guesses;
+        return this;
+    }
+
+    public long games() {
+        return this.games;
+    }
+
+    public long count(int gameGuesses) {
+        return gameGuesses < this.counts.length ? this.counts[gameGuesses] : 0;
+    }
+
+    public double mean() {
+        return this.games == 0 ? 0.0 : (double) this.guesses / this.games;
+    }
+
+    public int max() {
+        for (int i = this.counts.length - 1; i > 0; i--) {
+            if (this.counts[i] != 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param percentile 0 초과 1 이하의 값
+     * @return 전체 게임의 {@code percentile} 비율 이상이 끝난 최소 추측 횟수
+     */
+    public int percentile(double percentile) {
+        long threshold = (long) Math.ceil(percentile * this.games);
+        long seen = 0;
+        for (int i = 0; i < this.counts.length; i++) {
+            seen += this.counts[i];
+            if (seen >= threshold && seen > 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
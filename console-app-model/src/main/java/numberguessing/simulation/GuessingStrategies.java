@@ -0,0 +1,36 @@
+package numberguessing.simulation;
+
+import java.util.SplittableRandom;
+
+public enum GuessingStrategies implements GuessingStrategy {
+
+    /**
+     * 후보 구간의 가운데를 추측한다.
+     */
+    BINARY_SEARCH {
+        @Override
+        public long guess(long low, long high, SplittableRandom random) {
+            return (low + high) >>> 1;
+        }
+    },
+
+    /**
+     * 후보 구간에서 무작위로 추측한다.
+     */
+    RANDOM {
+        @Override
+        public long guess(long low, long high, SplittableRandom random) {
+            return low + random.nextLong(high - low + 1);
+        }
+    },
+
+    /**
+     * 가운데보다 하나 큰 값을 추측한다. 항상 더 큰 쪽 구간이 남도록 경계를 빗나가는 클라이언트를 흉내 낸다.
+     */
+    OFF_BY_ONE {
+        @Override
+        public long guess(long low, long high, SplittableRandom random) {
+            return Math.min(((low + high) >>> 1) + 1, high);
+        }
+    }
+}
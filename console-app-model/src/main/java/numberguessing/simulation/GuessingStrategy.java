@@ -0,0 +1,16 @@
+package numberguessing.simulation;
+
+import java.util.SplittableRandom;
+
+/**
+ * 시뮬레이터가 사용하는 추측 전략. 지금까지의 피드백으로 좁혀진 후보 구간 {@code [low, high]} 에서 다음 추측값을 고른다.
+ */
+@FunctionalInterface
+public interface GuessingStrategy {
+
+    /**
+     * @param random 작업자 스레드 전용 난수 생성기. 다른 작업자와 공유되지 않는다.
+     * @return {@code [low, high]} 범위의 추측값
+     */
+    long guess(long low, long high, SplittableRandom random);
+}
@@ -0,0 +1,119 @@
+package numberguessing.simulation;
+
+import numberguessing.PositiveIntegerGenerator;
+import numberguessing.console.AppModel;
+import numberguessing.console.GameListener;
+import numberguessing.console.GameMode;
+import numberguessing.console.GameResult;
+import numberguessing.console.GuessResult;
+import numberguessing.console.NumberRange;
+import numberguessing.console.OutputSink;
+
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+
+/**
+ * {@link AppModel} 로 싱글 플레이 게임을 대량으로 진행하는 헤드리스 시뮬레이터.
+ * <p>
+ * 게임들은 일정 크기의 묶음으로 나뉘어 병렬 스트림으로 여러 코어에서 진행된다. 묶음마다 자신만의 모델, 정답 생성기,
+ * 난수 생성기를 가지므로 작업자 사이에 공유되는 상태가 없다. 출력 텍스트는 만들지 않는다.
+ */
+public final class Simulator {
+
+    private static final int GAMES_PER_BATCH = 10_000;
+    private static final char[] SINGLE_PLAYER = {'1'};
+
+    private final LongFunction<? extends PositiveIntegerGenerator> generatorFactory;
+    private final NumberRange range;
+    private final long seed;
+
+    /**
+     * @param generatorFactory 묶음 번호를 받아 그 묶음 전용 정답 생성기를 만든다.
+     * @param seed             전략이 쓰는 난수의 시드. 같은 시드와 생성기로는 같은 분포가 나온다.
+     */
+    public Simulator(LongFunction<? extends PositiveIntegerGenerator> generatorFactory, long seed) {
+        this(generatorFactory, NumberRange.DEFAULT, seed);
+    }
+
+    public Simulator(LongFunction<? extends PositiveIntegerGenerator> generatorFactory, NumberRange range, long seed) {
+        this.generatorFactory = generatorFactory;
+        this.range = range;
+        this.seed = seed;
+    }
+
+    public GuessDistribution run(GuessingStrategy strategy, long games) {
+        long batches = (games + GAMES_PER_BATCH - 1) / GAMES_PER_BATCH;
+        return LongStream.range(0, batches)
+                .parallel()
+                .mapToObj(batch -> {
+                    long batchGames = Math.min(GAMES_PER_BATCH, games - batch * GAMES_PER_BATCH);
+                    return playBatch(strategy, batch, batchGames);
+                })
+                .collect(GuessDistribution::new, GuessDistribution::merge, GuessDistribution::merge);
+    }
+
+    private GuessDistribution playBatch(GuessingStrategy strategy, long batch, long games) {
+        var player = new Player(strategy, this.range, new SplittableRandom(this.seed + batch));
+        var model = new AppModel(this.generatorFactory.apply(batch), this.range, OutputSink.discard(), player);
+        for (long i = 0; i < games; i++) {
+            player.play(model);
+        }
+        return player.distribution;
+    }
+
+    private static final class Player implements GameListener {
+
+        private final GuessingStrategy strategy;
+        private final NumberRange range;
+        private final SplittableRandom random;
+        private final GuessDistribution distribution = new GuessDistribution();
+        private final char[] input = new char[20];
+        private long low;
+        private long high;
+        private boolean finished;
+
+        Player(GuessingStrategy strategy, NumberRange range, SplittableRandom random) {
+            this.strategy = strategy;
+            this.range = range;
+            this.random = random;
+        }
+
+        void play(AppModel model) {
+            this.low = this.range.lowerBound();
+            this.high = this.range.upperBound();
+            this.finished = false;
+            model.processInput(SINGLE_PLAYER, 0, SINGLE_PLAYER.length);
+            while (!this.finished) {
+                long guess = this.strategy.guess(this.low, this.high, this.random);
+                int length = format(guess);
+                model.processInput(this.input, this.input.length - length, length);
+            }
+        }
+
+        @Override
+        public void guessProcessed(GameMode mode, long guess, GuessResult result) {
+            if (result == GuessResult.TOO_LOW) {
+                this.low = Math.max(this.low, guess + 1);
+            } else if (result == GuessResult.TOO_HIGH) {
+                this.high = Math.min(this.high, guess - 1);
+            }
+        }
+
+        @Override
+        public void gameFinished(GameResult result) {
+            this.distribution.record(result.guesses());
+            this.finished = true;
+        }
+
+        // 추측값을 input 의 끝에 맞춰 10진수로 쓰고 길이를 반환한다.
+        private int format(long value) {
+            int position = this.input.length;
+            do {
+                this.input[--position] = (char) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+            return this.input.length - position;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package numberguessing.timer;
+
+import java.util.function.Consumer;
+
+/**
+ * 만료 시각이 된 항목을 알려주는 계층형 타이밍 휠.
+ * <p>
+ * 시간을 {@code tickNanos} 단위의 틱으로 나누고, 각 단계는 {@value #SLOTS} 칸으로 이루어진다. 0 단계의 한 칸은 한 틱이고
+ * 그 위 단계의 한 칸은 아래 단계 한 바퀴이다. 타이머는 현재 틱과 만료 틱이 처음 달라지는 자릿수의 단계에 들어가며, 시간이
+ * 흘러 그 칸의 차례가 되면 아래 단계로 다시 나누어 넣는다. 타이머는 칸마다 이중 연결 리스트로 이어 두므로 등록과 취소는
+ * 타이머 수와 상관없이 O(1) 이다.
+ * <p>
+ * 단계 수를 넘는 먼 만료 시각은 가장 먼 칸에 두었다가 그 칸의 차례가 되면 다시 등록한다. 시각을 옮길 때는 타이머가 없는
+ * 틱을 건너뛴다. 동기화하지 않으므로 호출자가 잠가야 한다.
+ *
+ * @param <T> 타이머에 붙일 값
+ */
+public final class TimingWheel<T> {
+
+    static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    static final int LEVELS = 6;
+    private static final long MAX_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickNanos;
+    private final long startNanos;
+    private final Timeout<T>[] heads;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickNanos  틱 길이. 만료는 이 단위로 반올림되어 만료 시각 뒤 첫 틱에 알려진다.
+     * @param startNanos 휠의 현재 시각
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TimingWheel(long tickNanos, long startNanos) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("Invalid tick: " + tickNanos);
+        }
+        this.tickNanos = tickNanos;
+        this.startNanos = startNanos;
+        this.heads = new Timeout[SLOTS * LEVELS];
+    }
+
+    /**
+     * {@code deadlineNanos} 에 만료되는 타이머를 등록한다. 이미 지난 시각이면 다음 틱에 만료된다.
+     */
+    public Timeout<T> schedule(T value, long deadlineNanos) {
+        Timeout<T> timeout = new Timeout<>(value, deadlineNanos);
+        insert(timeout);
+        this.size++;
+        return timeout;
+    }
+
+    /**
+     * 아직 만료되지 않은 타이머를 취소한다.
+     *
+     * @return 취소했으면 {@code true}, 이미 만료되었거나 취소된 타이머이면 {@code false}
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.slot < 0) {
+            return false;
+        }
+        unlink(timeout);
+        this.size--;
+        return true;
+    }
+
+    /**
+     * 휠의 시각을 {@code nowNanos} 까지 옮기며 그 사이에 만료된 타이머의 값을 만료 순서대로 {@code expired} 에 전달한다.
+     * {@code expired} 안에서 타이머를 등록하거나 취소해도 된다.
+     *
+     * @return 만료된 타이머 수
+     */
+    public int advance(long nowNanos, Consumer<? super T> expired) {
+        long targetTick = Math.floorDiv(nowNanos - this.startNanos, this.tickNanos);
+        int fired = 0;
+        while (this.currentTick < targetTick) {
+            long tick = this.size > 0 ? nextEventTick() : Long.MAX_VALUE;
+            if (tick > targetTick) {
+                this.currentTick = targetTick;
+                break;
+            }
+            this.currentTick = tick;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((tick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level, (int) (tick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+                }
+            }
+            fired += expire((int) tick & (SLOTS - 1), expired);
+        }
+        return fired;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    // 타이머가 있는 칸 중 가장 먼저 차례가 오는 칸의 틱. 아래 단계의 칸이 위 단계의 칸보다 항상 먼저 오므로 아래부터 찾는다.
+    // 그 사이의 빈 틱은 건너뛰므로 오래 비어 있던 휠을 옮기는 비용이 흐른 시간에 비례하지 않는다.
+    private long nextEventTick() {
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            int digit = (int) (this.currentTick >>> shift) & (SLOTS - 1);
+            long base = (this.currentTick >>> (shift + SLOT_BITS)) << (shift + SLOT_BITS);
+            for (int d = digit + 1; d < SLOTS; d++) {
+                if (this.heads[level * SLOTS + d] != null) {
+                    return base + ((long) d << shift);
+                }
+            }
+        }
+        // 맨 위 단계에서 다음 바퀴에 속한 칸
+        int shift = SLOT_BITS * (LEVELS - 1);
+        long base = ((this.currentTick >>> (shift + SLOT_BITS)) + 1) << (shift + SLOT_BITS);
+        for (int d = 0; d < SLOTS; d++) {
+            if (this.heads[(LEVELS - 1) * SLOTS + d] != null) {
+                return base + ((long) d << shift);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private int expire(int slot, Consumer<? super T> expired) {
+        int fired = 0;
+        Timeout<T> timeout;
+        while ((timeout = this.heads[slot]) != null) {
+            unlink(timeout);
+            if (timeout.deadlineTick > this.currentTick) {
+                // 단계 수를 넘어 가장 먼 칸에 두었던 타이머
+                insert(timeout);
+                continue;
+            }
+            this.size--;
+            fired++;
+            expired.accept(timeout.value);
+        }
+        return fired;
+    }
+
+    private void cascade(int level, int slot) {
+        Timeout<T> timeout = this.heads[level * SLOTS + slot];
+        this.heads[level * SLOTS + slot] = null;
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.slot = -1;
+            insert(timeout);
+            timeout = next;
+        }
+    }
+
+    private void insert(Timeout<T> timeout) {
+        long deadlineTick = timeout.deadlineTick;
+        if (deadlineTick < 0) {
+            long ticks = Math.floorDiv(timeout.deadlineNanos - this.startNanos, this.tickNanos);
+            deadlineTick = ticks * this.tickNanos < timeout.deadlineNanos - this.startNanos ? ticks + 1 : ticks;
+            deadlineTick = Math.max(deadlineTick, this.currentTick + 1);
+            timeout.deadlineTick = deadlineTick;
+        }
+        // 아래 단계로 다시 나누어 넣는 타이머는 지금 틱에 만료될 수 있으며, 그러면 지금 틱의 0 단계 칸에 들어간다.
+        long placedTick = Math.min(deadlineTick, this.currentTick + MAX_TICKS);
+        long difference = placedTick ^ this.currentTick;
+        int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(difference)) / SLOT_BITS;
+        if (level >= LEVELS) {
+            level = LEVELS - 1;
+        }
+        int index = level * SLOTS + ((int) (placedTick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+        Timeout<T> head = this.heads[index];
+        timeout.slot = index;
+        timeout.previous = null;
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        this.heads[index] = timeout;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            this.heads[timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.slot = -1;
+    }
+
+    /**
+     * 등록된 타이머 하나. {@link #cancel(Timeout)} 에 넘겨 취소한다.
+     */
+    public static final class Timeout<T> {
+
+        private final T value;
+        private final long deadlineNanos;
+        private long deadlineTick = -1;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+        private int slot = -1;
+
+        private Timeout(T value, long deadlineNanos) {
+            this.value = value;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public T value() {
+            return this.value;
+        }
+
+        public long deadlineNanos() {
+            return this.deadlineNanos;
+        }
+
+        /**
+         * 아직 만료되지도 취소되지도 않았는지 반환한다.
+         */
+        public boolean isPending() {
+            return this.slot >= 0;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package numberguessing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedRandomTest {
+
+    @DisplayName("sut은 주어진 구간 안의 수만 생성해야 한다.")
+    @ParameterizedTest(name = "[{0}, {1}]")
+    @CsvSource({"1, 1", "1, 100", "7, 12", "1, 4294967296", "1, 4294967297", "1, 9223372036854775807",
+            "9223372036854775800, 9223372036854775807"})
+    void sut_generates_numbers_within_bounds(long lowerBound, long upperBound) {
+        var random = new SplittableRandom(1);
+        for (int i = 0; i < 10_000; i++) {
+            long actual = BoundedRandom.nextLong(random, lowerBound, upperBound);
+            assertTrue(actual >= lowerBound && actual <= upperBound, "out of bounds: " + actual);
+        }
+    }
+
+    @DisplayName("sut은 구간 안의 모든 수를 고르게 생성해야 한다.")
+    @Test
+    void sut_generates_numbers_uniformly() {
+        var random = new SplittableRandom(1);
+        int[] counts = new int[101];
+        int samples = 1_000_000;
+        for (int i = 0; i < samples; i++) {
+            counts[(int) BoundedRandom.nextLong(random, 1, 100)]++;
+        }
+        for (int number = 1; number <= 100; number++) {
+            assertEquals(samples / 100.0, counts[number], samples / 100.0 * 0.05);
+        }
+    }
+
+    @DisplayName("sut은 잘못된 구간을 거부해야 한다.")
+    @Test
+    void sut_rejects_invalid_bounds() {
+        var random = new SplittableRandom(1);
+        assertThrows(IllegalArgumentException.class, () -> BoundedRandom.nextLong(random, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> BoundedRandom.nextLong(random, 10, 9));
+    }
+
+    @DisplayName("unsignedMultiplyHigh는 부호 없는 128비트 곱의 상위 64비트를 반환해야 한다.")
+    @Test
+    void unsigned_multiply_high_returns_upper_bits_of_unsigned_product() {
+        assertEquals(0, BoundedRandom.unsignedMultiplyHigh(3, 5));
+        assertEquals(-2, BoundedRandom.unsignedMultiplyHigh(-1, -1));
+        assertEquals(Long.MAX_VALUE - 1, BoundedRandom.unsignedMultiplyHigh(-1, Long.MAX_VALUE));
+    }
+}
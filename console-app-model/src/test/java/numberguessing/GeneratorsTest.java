@@ -0,0 +1,80 @@
+package numberguessing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneratorsTest {
+
+    private static int[] generate(PositiveIntegerGenerator generator, int count) {
+        return IntStream.range(0, count).map(i -> generator.generateLessThanOrEqualToHundred()).toArray();
+    }
+
+    private static void assertInRange(int[] numbers) {
+        for (int number : numbers) {
+            assertTrue(number >= 1 && number <= 100, "out of range: " + number);
+        }
+    }
+
+    @DisplayName("각 생성기는 1 이상 100 이하의 수를 생성해야 한다.")
+    @Test
+    void generators_generate_numbers_between_one_and_hundred() {
+        assertInRange(generate(new ThreadLocalRandomGenerator(), 10_000));
+        assertInRange(generate(new SplittableRandomGenerator(1), 10_000));
+        assertInRange(generate(new JumpableRandomGenerator(1), 10_000));
+        assertInRange(generate(new PrefetchingGenerator(new SplittableRandom(1), 7), 10_000));
+    }
+
+    @DisplayName("시드가 같은 생성기는 같은 수열을 생성해야 한다.")
+    @Test
+    void seeded_generators_are_deterministic() {
+        assertArrayEquals(generate(new SplittableRandomGenerator(42), 1000),
+                generate(new SplittableRandomGenerator(42), 1000));
+        assertArrayEquals(generate(new JumpableRandomGenerator(42), 1000),
+                generate(new JumpableRandomGenerator(42), 1000));
+    }
+
+    @DisplayName("분할하거나 건너뛴 생성기도 원래 시드에 따라 결정되어야 한다.")
+    @Test
+    void split_and_jumped_generators_are_deterministic() {
+        assertArrayEquals(generate(new SplittableRandomGenerator(42).split(), 1000),
+                generate(new SplittableRandomGenerator(42).split(), 1000));
+        assertArrayEquals(generate(new JumpableRandomGenerator(42).jump(), 1000),
+                generate(new JumpableRandomGenerator(42).jump(), 1000));
+    }
+
+    @DisplayName("건너뛴 뒤의 생성기는 건너뛰기 전과 다른 수열을 생성해야 한다.")
+    @Test
+    void jumped_generator_produces_different_sequence() {
+        var generator = new JumpableRandomGenerator(42);
+        int[] first = generate(generator.jump(), 1000);
+        int[] second = generate(generator.jump(), 1000);
+        assertFalse(java.util.Arrays.equals(first, second));
+    }
+
+    @DisplayName("미리 채우는 생성기는 원본 생성기와 같은 순서로 수를 생성해야 한다.")
+    @Test
+    void prefetching_generator_preserves_source_order() {
+        var source = new SplittableRandom(3);
+        int[] expected = IntStream.range(0, 1000).map(i -> (int) BoundedRandom.nextLong(source, 1, 100)).toArray();
+
+        int[] actual = generate(new PrefetchingGenerator(new SplittableRandom(3), 64), 1000);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @DisplayName("미리 채우는 생성기는 요청된 구간이 바뀌면 새 구간의 수를 생성해야 한다.")
+    @Test
+    void prefetching_generator_follows_requested_bounds() {
+        var sut = new PrefetchingGenerator(new SplittableRandom(3), 64);
+        sut.generate(1, 100);
+
+        long actual = sut.generate(1_000_000_000_000L, 1_000_000_000_010L);
+
+        assertTrue(actual >= 1_000_000_000_000L && actual <= 1_000_000_000_010L);
+    }
+}
@@ -12,7 +12,7 @@ public class PositiveIntegerGeneratorStub implements PositiveIntegerGenerator {
     }
 
     @Override
-    public int generateLessThanOrEqualToHundred() {
+    public long generate(long lowerBound, long upperBound) {
         int number = numbers[index];
         index = (index + 1) % this.numbers.length;  // numbers 의 길이 이상만큼 올라가지 않도록 수정
         return number;
@@ -0,0 +1,210 @@
+package numberguessing.console;
+
+import numberguessing.PositiveIntegerGeneratorStub;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AppModelProcessorTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @DisplayName("sut은 구독자가 요청하기 전에는 아무것도 발행하지 않고 입력도 요청하지 않아야 한다.")
+    @Test
+    void sut_does_not_emit_or_request_without_demand() {
+        var sut = new AppModelProcessor(new AppModel(new PositiveIntegerGeneratorStub(50)), DIRECT);
+        var input = new InputSubscription();
+        var output = new OutputSubscriber();
+        sut.onSubscribe(input);
+        sut.subscribe(output);
+
+        assertEquals(0, input.requested);
+        assertTrue(output.items.isEmpty());
+    }
+
+    @DisplayName("sut은 구독자가 요청한 만큼만 상위 발행자에게 입력을 요청해야 한다.")
+    @Test
+    void sut_requests_inputs_only_for_downstream_demand() {
+        var sut = new AppModelProcessor(new AppModel(new PositiveIntegerGeneratorStub(50)), DIRECT);
+        var input = new InputSubscription();
+        var output = new OutputSubscriber();
+        sut.onSubscribe(input);
+        sut.subscribe(output);
+
+        output.subscription.request(1);
+        assertEquals(1, output.items.size());
+        assertEquals(0, input.requested);
+
+        output.subscription.request(2);
+        assertEquals(2, input.requested);
+        sut.onNext("1");
+        assertEquals(2, output.items.size());
+        assertEquals(2, input.requested);
+    }
+
+    @DisplayName("sut은 입력마다 출력을 한 덩어리씩 발행하고 게임이 끝나면 상위 구독을 취소하고 완료해야 한다.")
+    @Test
+    void sut_emits_output_per_input_and_completes_with_game() {
+        var sut = new AppModelProcessor(new AppModel(new PositiveIntegerGeneratorStub(50)), DIRECT);
+        var input = new InputSubscription();
+        var output = new OutputSubscriber();
+        sut.onSubscribe(input);
+        sut.subscribe(output);
+        output.subscription.request(Long.MAX_VALUE);
+
+        sut.onNext("1");
+        sut.onNext("30");
+        sut.onNext("50");
+        sut.onNext("3");
+
+        assertEquals(4, output.items.size());
+        assertEquals("Your guess is too low.\nEnter your guess: \n", output.items.get(2));
+        assertTrue(output.items.get(3).startsWith("Correct! 2 guesses.\n"));
+        assertTrue(output.completed);
+        assertTrue(input.cancelled);
+    }
+
+    @DisplayName("sut은 여러 스레드의 실행기에서 SubmissionPublisher 와 연결해도 게임을 끝까지 진행해야 한다.")
+    @Test
+    void sut_plays_game_with_submission_publisher() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (var publisher = new SubmissionPublisher<String>(executor, 1)) {
+            var sut = new AppModelProcessor(new AppModel(new PositiveIntegerGeneratorStub(50)), executor);
+            var output = new OutputSubscriber();
+            var completed = new CountDownLatch(1);
+            publisher.subscribe(sut);
+            sut.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    output.onSubscribe(subscription);
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(String item) {
+                    output.onNext(item);
+                    output.subscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    completed.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            });
+            for (String input : new String[]{"2", "Foo, Bar", "30", "70", "50", "3"}) {
+                publisher.submit(input);
+            }
+
+            assertTrue(completed.await(10, TimeUnit.SECONDS));
+            assertTrue(output.items.get(output.items.size() - 1).startsWith("Correct! Foo wins.\n"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @DisplayName("sut은 상위 발행자의 오류를 받아 둔 입력을 모두 처리한 뒤 구독자에게 전달해야 한다.")
+    @Test
+    void sut_forwards_upstream_error_after_pending_inputs() {
+        var sut = new AppModelProcessor(new AppModel(new PositiveIntegerGeneratorStub(50)), DIRECT);
+        var input = new InputSubscription();
+        var output = new OutputSubscriber();
+        sut.onSubscribe(input);
+        sut.subscribe(output);
+        output.subscription.request(1);
+
+        sut.onNext("1");
+        var failure = new IllegalStateException("connection lost");
+        sut.onError(failure);
+        assertNull(output.error);
+
+        output.subscription.request(1);
+        assertEquals(2, output.items.size());
+        assertSame(failure, output.error);
+    }
+
+    @DisplayName("sut은 두 번째 구독자를 거부해야 한다.")
+    @Test
+    void sut_rejects_second_subscriber() {
+        var sut = new AppModelProcessor(new AppModel(new PositiveIntegerGeneratorStub(50)), DIRECT);
+        sut.subscribe(new OutputSubscriber());
+        var second = new OutputSubscriber();
+
+        sut.subscribe(second);
+
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @DisplayName("sut은 구독자가 취소하면 상위 구독도 취소해야 한다.")
+    @Test
+    void sut_cancels_upstream_when_downstream_cancels() {
+        var sut = new AppModelProcessor(new AppModel(new PositiveIntegerGeneratorStub(50)), DIRECT);
+        var input = new InputSubscription();
+        var output = new OutputSubscriber();
+        sut.onSubscribe(input);
+        sut.subscribe(output);
+
+        output.subscription.cancel();
+
+        assertTrue(input.cancelled);
+    }
+
+    private static final class InputSubscription implements Flow.Subscription {
+
+        long requested;
+        boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            this.requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+    }
+
+    private static final class OutputSubscriber implements Flow.Subscriber<String> {
+
+        final List<String> items = new ArrayList<>();
+        Flow.Subscription subscription;
+        boolean completed;
+        Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(String item) {
+            this.items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
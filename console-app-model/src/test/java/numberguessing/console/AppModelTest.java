@@ -7,8 +7,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
 import static java.lang.String.join;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.lang.String.valueOf;
+import static java.util.Arrays.copyOf;
 import static java.util.Arrays.stream;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -382,4 +387,348 @@ class AppModelTest {
         assertTrue(actual);
     }
 
-}
\ No newline at end of file
+    @DisplayName("sut은 char 배열의 일부 구간을 입력으로 처리해야 한다.")
+    @Test
+    void sut_correctly_processes_char_array_slice_input() {
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50));
+        char[] input = "xx1xx50xx".toCharArray();
+        sut.processInput(input, 2, 1);
+        sut.flushOutput();
+        sut.processInput(input, 5, 2);
+
+        String actual = sut.flushOutput();
+        assertThat(actual).startsWith("Correct! 1 guess.\n");
+    }
+
+    @DisplayName("sut은 UTF-8 바이트 배열의 일부 구간을 입력으로 처리해야 한다.")
+    @Test
+    void sut_correctly_processes_byte_array_slice_input() {
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50));
+        byte[] mode = "2".getBytes(UTF_8);
+        byte[] names = "철수, 영희".getBytes(UTF_8);
+        byte[] guess = "  30".getBytes(UTF_8);
+        sut.processInput(mode, 0, mode.length);
+        sut.processInput(names, 0, names.length);
+        sut.flushOutput();
+        sut.processInput(guess, 2, 2);
+
+        String actual = sut.flushOutput();
+        assertEquals("철수's guess is too low.\nEnter 영희's guess: ", actual);
+    }
+
+    @DisplayName("sut은 OutputSink가 주어지면 출력을 버퍼에 모으지 않고 sink로 바로 보내야 한다.")
+    @Test
+    void sut_writes_output_directly_to_given_sink() {
+        var output = new StringBuilder();
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50), new OutputSink() {
+            @Override
+            public void writeMessage(String message) {
+                output.append(message);
+            }
+
+            @Override
+            public void writeText(CharSequence text) {
+                output.append('[').append(text).append(']');
+            }
+
+            @Override
+            public void writeNumber(int number) {
+                output.append('#').append(number);
+            }
+        });
+        sut.processInput("1");
+        sut.processInput("50");
+
+        assertThat(output).contains("Correct! #1 guess.\n");
+        assertEquals("", sut.flushOutput());
+    }
+
+    @DisplayName("sut은 설정된 구간으로 게임 시작 메시지를 출력해야 한다.")
+    @Test
+    void sut_prints_configured_range_in_start_message() {
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50), new NumberRange(10, 1_000_000),
+                null, GameListener.NONE);
+        sut.processInput("1");
+
+        String actual = sut.flushOutput();
+        assertThat(actual).contains("I'm thinking of a number between 10 and 1000000.\n");
+    }
+
+    @DisplayName("sut은 int 범위를 넘는 정답과 추측을 처리해야 한다.")
+    @Test
+    void sut_handles_guesses_beyond_int_range() {
+        long answer = Long.MAX_VALUE - 1;
+        var sut = new AppModel((lowerBound, upperBound) -> answer, new NumberRange(1, Long.MAX_VALUE),
+                null, GameListener.NONE);
+        sut.processInput("1");
+        sut.processInput(valueOf(Long.MAX_VALUE));
+        sut.flushOutput();
+        sut.processInput(valueOf(answer));
+
+        String actual = sut.flushOutput();
+        assertThat(actual).startsWith("Correct! 2 guesses.\n");
+    }
+
+    @DisplayName("sut은 싱글 플레이에서 잘못된 추측을 받으면 알리고 시도 횟수를 늘리지 않은 채 다시 입력받아야 한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"", "fifty", "5 0", "99999999999999999999"})
+    void sut_rejects_invalid_single_player_guess(String guess) {
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50));
+        sut.processInput("1");
+        sut.flushOutput();
+        sut.processInput(guess);
+
+        assertEquals("Your guess is invalid.\nEnter your guess: \n", sut.flushOutput());
+
+        sut.processInput(" 50 ");
+        assertThat(sut.flushOutput()).startsWith("Correct! 1 guess.\n");
+    }
+
+    @DisplayName("sut은 멀티 플레이에서 잘못된 추측을 받으면 알리고 같은 플레이어에게 다시 입력받아야 한다.")
+    @Test
+    void sut_rejects_invalid_multiplayer_guess() {
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50));
+        sut.processInput("2");
+        sut.processInput("Foo, Bar");
+        sut.flushOutput();
+        sut.processInput("abc");
+
+        assertEquals("Foo's guess is invalid.\nEnter Foo's guess: ", sut.flushOutput());
+
+        sut.processInput("50");
+        assertThat(sut.flushOutput()).startsWith("Correct! Foo wins.\n");
+    }
+
+    @DisplayName("sut은 싱글 플레이 도중의 스냅샷에서 되살아나 같은 정답과 시도 횟수로 게임을 이어가야 한다.")
+    @Test
+    void sut_resumes_single_player_game_from_snapshot() {
+        var original = new AppModel(new PositiveIntegerGeneratorStub(50));
+        original.processInput("1");
+        original.processInput("30");
+        original.processInput("70");
+
+        var sut = AppModel.restore(new PositiveIntegerGeneratorStub(99), original.snapshot());
+        assertEquals("", sut.flushOutput());
+        sut.processInput("50");
+
+        String actual = sut.flushOutput();
+        assertThat(actual).startsWith("Correct! 3 guesses.\n");
+    }
+
+    @DisplayName("sut은 멀티 플레이 도중의 스냅샷에서 되살아나 같은 플레이어 차례부터 게임을 이어가야 한다.")
+    @Test
+    void sut_resumes_multiplayer_game_from_snapshot() {
+        var original = new AppModel(new PositiveIntegerGeneratorStub(50));
+        original.processInput("2");
+        original.processInput("Foo, 바, Baz");
+        original.processInput("30");
+        byte[] snapshot = original.snapshot();
+        assertEquals(snapshot.length, original.snapshotSize());
+
+        var sut = AppModel.restore(new PositiveIntegerGeneratorStub(99), snapshot);
+        sut.processInput("70");
+        sut.processInput("50");
+
+        String actual = sut.flushOutput();
+        assertThat(actual).startsWith("바's guess is too high.\nEnter Baz's guess: Correct! Baz wins.\n");
+    }
+
+    @DisplayName("sut은 종료된 세션의 스냅샷에서 되살아나면 종료된 상태여야 한다.")
+    @Test
+    void sut_restores_completed_state() {
+        var original = new AppModel(new PositiveIntegerGeneratorStub(50));
+        original.processInput("3");
+
+        var sut = AppModel.restore(new PositiveIntegerGeneratorStub(50), original.snapshot());
+
+        assertTrue(sut.isCompleted());
+    }
+
+    @DisplayName("sut은 버전이 다르거나 잘린 스냅샷을 거부해야 한다.")
+    @Test
+    void sut_rejects_invalid_snapshot() {
+        var original = new AppModel(new PositiveIntegerGeneratorStub(50));
+        original.processInput("2");
+        original.processInput("Foo, Bar");
+        byte[] snapshot = original.snapshot();
+        byte[] truncated = copyOf(snapshot, snapshot.length - 1);
+        byte[] otherVersion = snapshot.clone();
+        otherVersion[0]++;
+
+        var generator = new PositiveIntegerGeneratorStub(50);
+        assertThrows(IllegalArgumentException.class, () -> AppModel.restore(generator, truncated));
+        assertThrows(IllegalArgumentException.class, () -> AppModel.restore(generator, otherVersion));
+    }
+
+    @DisplayName("sut은 게임 도중에 참가한 플레이어에게 현재 라운드의 마지막 차례를 주어야 한다.")
+    @Test
+    void sut_gives_turn_to_player_who_joins_mid_game() {
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50));
+        sut.processInput("2");
+        sut.processInput("Foo, Bar");
+        sut.processInput("30");
+        sut.flushOutput();
+
+        assertTrue(sut.addPlayer("Baz"));
+        sut.processInput("70");
+        sut.processInput("40");
+
+        String actual = sut.flushOutput();
+        assertEquals("Bar's guess is too high.\nEnter Baz's guess: Baz's guess is too low.\nEnter Foo's guess: ",
+                actual);
+    }
+
+    @DisplayName("sut은 같은 이름이 여러 번 입력되면 그 이름에 차례를 그만큼 주어야 한다.")
+    @Test
+    void sut_gives_turns_to_each_duplicate_name() {
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50));
+        sut.processInput("2");
+        sut.processInput("Foo, Foo");
+        sut.flushOutput();
+        sut.processInput("30");
+        sut.processInput("70");
+
+        String actual = sut.flushOutput();
+        assertEquals("Foo's guess is too low.\nEnter Foo's guess: Foo's guess is too high.\nEnter Foo's guess: ",
+                actual);
+        assertTrue(sut.removePlayer("Foo"));
+        assertTrue(sut.removePlayer("Foo"));
+        assertFalse(sut.removePlayer("Foo"));
+    }
+
+    @DisplayName("sut은 현재 차례인 플레이어가 떠나면 다음 플레이어에게 차례를 넘겨야 한다.")
+    @Test
+    void sut_passes_turn_when_current_player_leaves() {
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50));
+        sut.processInput("2");
+        sut.processInput("Foo, Bar, Baz");
+        sut.flushOutput();
+
+        assertTrue(sut.removePlayer("Foo"));
+        assertFalse(sut.removePlayer("Foo"));
+        sut.processInput("50");
+
+        String actual = sut.flushOutput();
+        assertThat(actual).startsWith("Enter Bar's guess: Correct! Bar wins.\n");
+    }
+
+    @DisplayName("sut은 모든 플레이어가 떠나면 모드 선택으로 돌아가야 한다.")
+    @Test
+    void sut_returns_to_mode_selection_when_all_players_leave() {
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50));
+        sut.processInput("2");
+        sut.processInput("Foo");
+        sut.flushOutput();
+
+        sut.removePlayer("Foo");
+
+        String actual = sut.flushOutput();
+        assertThat(actual).startsWith("All players left.\n1: Single player game\n");
+        assertFalse(sut.addPlayer("Bar"));
+    }
+
+    @DisplayName("sut은 제한 시간이 지난 차례의 입력을 버리고 다음 플레이어에게 차례를 넘겨야 한다.")
+    @Test
+    void sut_skips_turn_after_timeout() {
+        long[] now = {0};
+        var scheduler = TurnScheduler.timed(Duration.ofSeconds(10), () -> now[0]);
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50), NumberRange.DEFAULT, null, GameListener.NONE,
+                scheduler);
+        sut.processInput("2");
+        sut.processInput("Foo, Bar");
+        sut.flushOutput();
+
+        now[0] = 11_000_000_000L;
+        sut.processInput("50");
+        assertFalse(sut.checkTurnTimeout());
+        now[0] = 22_000_000_000L;
+        assertTrue(sut.checkTurnTimeout());
+        sut.processInput("50");
+
+        String actual = sut.flushOutput();
+        assertThat(actual).startsWith(
+                "Foo's turn timed out.\nEnter Bar's guess: Bar's turn timed out.\nEnter Foo's guess: Correct! Foo wins.\n");
+    }
+
+    @DisplayName("sut은 스냅샷에서 되살린 제한 시간 게임의 차례 시간을 주어진 시계로 재야 한다.")
+    @Test
+    void sut_restores_timed_game_with_given_clock() {
+        long[] now = {0};
+        var original = new AppModel(new PositiveIntegerGeneratorStub(50), NumberRange.DEFAULT, null,
+                GameListener.NONE, TurnScheduler.timed(Duration.ofSeconds(10), () -> now[0]));
+        original.processInput("2");
+        original.processInput("Foo, Bar");
+        byte[] snapshot = original.snapshot();
+
+        now[0] = 100_000_000_000L;
+        var sut = AppModel.restore(new PositiveIntegerGeneratorStub(99), ByteBuffer.wrap(snapshot), null,
+                GameListener.NONE, () -> now[0]);
+        assertEquals(TurnScheduler.timed(Duration.ofSeconds(10)).toString(), sut.scheduler().toString());
+        now[0] = 109_000_000_000L;
+        assertFalse(sut.checkTurnTimeout());
+        now[0] = 111_000_000_000L;
+        assertTrue(sut.checkTurnTimeout());
+
+        assertEquals("Foo's turn timed out.\nEnter Bar's guess: ", sut.flushOutput());
+    }
+
+    @DisplayName("sut은 동시 추측 방식에서 라운드의 모든 추측을 모은 뒤 한꺼번에 판정해야 한다.")
+    @Test
+    void sut_resolves_simultaneous_round_after_all_guesses() {
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50), NumberRange.DEFAULT, null, GameListener.NONE,
+                TurnScheduler.simultaneous());
+        sut.processInput("2");
+        sut.processInput("Foo, Bar, Baz");
+        sut.flushOutput();
+
+        sut.processInput("30");
+        sut.processInput("70");
+        assertEquals("Enter Bar's guess: Enter Baz's guess: ", sut.flushOutput());
+        sut.processInput("40");
+        assertEquals("Foo's guess is too low.\nBar's guess is too high.\nBaz's guess is too low.\nEnter Foo's guess: ",
+                sut.flushOutput());
+        sut.processInput("60");
+        sut.processInput("50");
+        sut.processInput("50");
+
+        String actual = sut.flushOutput();
+        assertThat(actual).startsWith("Enter Bar's guess: Enter Baz's guess: Foo's guess is too high.\nCorrect! Bar wins.\n");
+    }
+
+    @DisplayName("sut은 동시 추측 도중의 스냅샷에서 되살아나 이번 라운드에 모인 추측을 유지해야 한다.")
+    @Test
+    void sut_resumes_simultaneous_round_from_snapshot() {
+        var original = new AppModel(new PositiveIntegerGeneratorStub(50), NumberRange.DEFAULT, null, GameListener.NONE,
+                TurnScheduler.simultaneous());
+        original.processInput("2");
+        original.processInput("Foo, Bar");
+        original.processInput("50");
+        byte[] snapshot = original.snapshot();
+        assertEquals(snapshot.length, original.snapshotSize());
+
+        var sut = AppModel.restore(new PositiveIntegerGeneratorStub(99), snapshot);
+        sut.processInput("70");
+
+        String actual = sut.flushOutput();
+        assertThat(actual).startsWith("Bar's guess is too high.\nCorrect! Foo wins.\n");
+    }
+
+    @DisplayName("sut은 플레이어가 많아도 한 턴에 현재 플레이어의 메시지만 출력해야 한다.")
+    @Test
+    void sut_handles_large_roster() {
+        StringBuilder names = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            names.append("P").append(i).append(", ");
+        }
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50));
+        sut.processInput("2");
+        sut.processInput(names.append("Last").toString());
+        sut.flushOutput();
+
+        assertTrue(sut.removePlayer("P0"));
+        sut.flushOutput();
+        sut.processInput("30");
+
+        assertEquals("P1's guess is too low.\nEnter P2's guess: ", sut.flushOutput());
+    }
+}
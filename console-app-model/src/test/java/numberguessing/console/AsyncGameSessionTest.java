@@ -0,0 +1,56 @@
+package numberguessing.console;
+
+import numberguessing.PositiveIntegerGeneratorStub;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncGameSessionTest {
+
+    @DisplayName("sut은 여러 스레드의 실행기에서도 입력을 호출한 순서대로 처리해야 한다.")
+    @Test
+    void sut_processes_inputs_in_call_order() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            var sut = new AsyncGameSession(new AppModel(new PositiveIntegerGeneratorStub(50)), executor);
+            CompletableFuture<String> greeting = sut.flushOutput();
+            sut.processInput("1");
+            List<CompletableFuture<String>> guesses = new ArrayList<>();
+            for (int i = 1; i < 50; i++) {
+                guesses.add(sut.processInput(String.valueOf(i)));
+            }
+            CompletableFuture<String> correct = sut.processInput("50");
+
+            assertThat(greeting.join()).startsWith("1: Single player game\n");
+            for (CompletableFuture<String> guess : guesses) {
+                assertEquals("Your guess is too low.\nEnter your guess: \n", guess.join());
+            }
+            assertThat(correct.join()).startsWith("Correct! 50 guesses.\n");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @DisplayName("sut은 끝난 게임에 대한 입력을 실패로 완료하고 다음 호출은 계속 처리해야 한다.")
+    @Test
+    void sut_fails_input_after_game_completed() {
+        var sut = new AsyncGameSession(new AppModel(new PositiveIntegerGeneratorStub(50)), Runnable::run);
+        sut.processInput("3").join();
+        assertTrue(sut.isCompleted());
+
+        CompletableFuture<String> actual = sut.processInput("1");
+
+        CompletionException exception = assertThrows(CompletionException.class, actual::join);
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+        assertEquals("", sut.flushOutput().join());
+    }
+}
@@ -0,0 +1,43 @@
+package numberguessing.console;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuessParserTest {
+
+    @DisplayName("sut은 앞뒤 공백과 부호가 있는 10진수를 해석해야 한다.")
+    @ParameterizedTest
+    @CsvSource({"'50', 50", "' 42 ', 42", "'\t7\r', 7", "'+13', 13", "'-3', -3", "'007', 7",
+            "'9223372036854775807', 9223372036854775807", "'-9223372036854775808', -9223372036854775808"})
+    void sut_parses_decimal_numbers(String input, long expected) {
+        var sut = new GuessParser();
+
+        assertEquals(GuessParser.Result.VALID, sut.parse(input));
+        assertEquals(expected, sut.value());
+    }
+
+    @DisplayName("sut은 공백뿐인 입력을 EMPTY로 보고해야 한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "\t \r"})
+    void sut_reports_empty_input(String input) {
+        assertEquals(GuessParser.Result.EMPTY, new GuessParser().parse(input));
+    }
+
+    @DisplayName("sut은 숫자가 아닌 문자가 있는 입력을 NOT_A_NUMBER로 보고해야 한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"fifty", "5 0", "-", "+-5", "12a", "٣", "99999999999999999999x"})
+    void sut_reports_non_numeric_input(String input) {
+        assertEquals(GuessParser.Result.NOT_A_NUMBER, new GuessParser().parse(input));
+    }
+
+    @DisplayName("sut은 long 범위를 넘는 수를 OUT_OF_RANGE로 보고해야 한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"9223372036854775808", "-9223372036854775809", "100000000000000000000"})
+    void sut_reports_out_of_range_numbers(String input) {
+        assertEquals(GuessParser.Result.OUT_OF_RANGE, new GuessParser().parse(input));
+    }
+}
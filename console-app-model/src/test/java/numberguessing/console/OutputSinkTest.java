@@ -0,0 +1,66 @@
+package numberguessing.console;
+
+import numberguessing.PositiveIntegerGeneratorStub;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutputSinkTest {
+
+    @DisplayName("Appendable sink는 AppModel의 출력을 flushOutput과 같은 내용으로 받아야 한다.")
+    @Test
+    void appendable_sink_receives_same_output_as_flush_output() {
+        var writer = new StringWriter();
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50), OutputSink.to(writer));
+        var expected = new AppModel(new PositiveIntegerGeneratorStub(50));
+        for (String input : new String[]{"2", "Foo, Bar", "30", "70", "50", "1", "50"}) {
+            sut.processInput(input);
+            expected.processInput(input);
+        }
+
+        assertEquals(expected.flushOutput(), writer.toString());
+    }
+
+    @DisplayName("ByteBuffer sink는 AppModel의 출력을 UTF-8로 기록해야 한다.")
+    @Test
+    void byte_buffer_sink_writes_utf8_output() {
+        var buffer = ByteBuffer.allocate(1024);
+        var sut = new AppModel(new PositiveIntegerGeneratorStub(50), OutputSink.to(buffer));
+        buffer.clear();
+        sut.processInput("2");
+        sut.processInput("철수, 영희");
+        buffer.clear();
+        sut.processInput("30");
+
+        String actual = new String(buffer.array(), 0, buffer.position(), UTF_8);
+        assertEquals("철수's guess is too low.\nEnter 영희's guess: ", actual);
+    }
+
+    @DisplayName("ByteBuffer sink는 공간이 부족하면 BufferOverflowException을 던져야 한다.")
+    @Test
+    void byte_buffer_sink_throws_when_buffer_is_full() {
+        var sut = OutputSink.to(ByteBuffer.allocate(4));
+        assertThrows(BufferOverflowException.class, () -> sut.writeText("Player"));
+    }
+
+    @DisplayName("sink들은 숫자를 10진수로 기록해야 한다.")
+    @ParameterizedTest(name = "number = {0}")
+    @ValueSource(ints = {0, 7, 10, 123456, -42, Integer.MAX_VALUE, Integer.MIN_VALUE})
+    void sinks_write_numbers_in_decimal(int number) {
+        var builder = new StringBuilder();
+        var buffer = ByteBuffer.allocate(16);
+        OutputSink.to(builder).writeNumber(number);
+        OutputSink.to(buffer).writeNumber(number);
+
+        assertEquals(String.valueOf(number), builder.toString());
+        assertEquals(String.valueOf(number), new String(buffer.array(), 0, buffer.position(), UTF_8));
+    }
+}
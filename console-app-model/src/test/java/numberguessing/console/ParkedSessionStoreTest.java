@@ -0,0 +1,98 @@
+package numberguessing.console;
+
+import numberguessing.PositiveIntegerGeneratorStub;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParkedSessionStoreTest {
+
+    @DisplayName("sut은 보관했던 싱글 플레이 세션을 꺼내 같은 정답과 시도 횟수로 이어가야 한다.")
+    @Test
+    void sut_resumes_parked_single_player_game() {
+        var sut = new ParkedSessionStore();
+        var model = new AppModel(new PositiveIntegerGeneratorStub(50));
+        model.processInput("1");
+        model.processInput("30");
+        int handle = sut.park(model);
+
+        var actual = sut.activate(handle, new PositiveIntegerGeneratorStub(99));
+        actual.processInput("50");
+
+        assertThat(actual.flushOutput()).startsWith("Correct! 2 guesses.\n");
+        assertEquals(0, sut.size());
+    }
+
+    @DisplayName("sut은 보관했던 멀티 플레이 세션을 꺼내 같은 플레이어 차례부터 이어가야 한다.")
+    @Test
+    void sut_resumes_parked_multiplayer_game() {
+        var sut = new ParkedSessionStore();
+        var model = new AppModel(new PositiveIntegerGeneratorStub(50), new NumberRange(10, 90), null,
+                GameListener.NONE);
+        model.processInput("2");
+        model.processInput("Foo, Bar, Baz");
+        model.processInput("30");
+        int handle = sut.park(model);
+
+        var actual = sut.activate(handle, new PositiveIntegerGeneratorStub(99));
+        actual.processInput("50");
+
+        assertThat(actual.flushOutput()).startsWith("Correct! Bar wins.\n");
+    }
+
+    @DisplayName("sut은 동시 추측 세션을 보관할 때 차례 규칙과 이번 라운드에 모인 추측을 유지해야 한다.")
+    @Test
+    void sut_resumes_parked_simultaneous_round() {
+        var sut = new ParkedSessionStore();
+        var model = new AppModel(new PositiveIntegerGeneratorStub(50), NumberRange.DEFAULT, null, GameListener.NONE,
+                TurnScheduler.simultaneous());
+        model.processInput("2");
+        model.processInput("Foo, Bar");
+        model.processInput("30");
+        int handle = sut.park(model);
+
+        var actual = sut.activate(handle, new PositiveIntegerGeneratorStub(99));
+        actual.processInput("50");
+
+        assertThat(actual.flushOutput()).startsWith("Foo's guess is too low.\nCorrect! Bar wins.\n");
+    }
+
+    @DisplayName("sut은 여러 세션의 같은 플레이어 이름을 한 번만 보관하고 마지막 세션을 꺼내면 해제해야 한다.")
+    @Test
+    void sut_interns_player_names_across_sessions() {
+        var sut = new ParkedSessionStore();
+        int[] handles = new int[100];
+        for (int i = 0; i < handles.length; i++) {
+            var model = new AppModel(new PositiveIntegerGeneratorStub(50));
+            model.processInput("2");
+            model.processInput("Foo, Bar");
+            handles[i] = sut.park(model);
+        }
+        assertEquals(2, sut.internedNames());
+
+        for (int handle : handles) {
+            sut.activate(handle, new PositiveIntegerGeneratorStub(50));
+        }
+        assertEquals(0, sut.internedNames());
+        assertEquals(0, sut.size());
+    }
+
+    @DisplayName("sut은 꺼낸 세션의 자리를 다시 사용하고, 비어 있는 핸들은 거부해야 한다.")
+    @Test
+    void sut_reuses_slots_and_rejects_empty_handles() {
+        var sut = new ParkedSessionStore(1);
+        int first = sut.park(new AppModel(new PositiveIntegerGeneratorStub(50)));
+        int second = sut.park(new AppModel(new PositiveIntegerGeneratorStub(50)));
+        sut.activate(first, new PositiveIntegerGeneratorStub(50));
+
+        assertEquals(first, sut.park(new AppModel(new PositiveIntegerGeneratorStub(50))));
+        assertNotEquals(first, second);
+        assertEquals(2, sut.size());
+        var generator = new PositiveIntegerGeneratorStub(50);
+        assertThrows(NoSuchElementException.class, () -> sut.activate(42, generator));
+    }
+}
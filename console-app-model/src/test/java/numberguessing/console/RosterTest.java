@@ -0,0 +1,88 @@
+package numberguessing.console;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterTest {
+
+    @DisplayName("sut는 참가한 순서대로 플레이어를 돌아가며 반환해야 한다.")
+    @Test
+    void sut_cycles_players_in_join_order() {
+        var sut = new Roster();
+        int foo = sut.join("Foo");
+        int bar = sut.join("Bar");
+        int baz = sut.join("Baz");
+
+        assertEquals(foo, sut.head());
+        assertEquals(bar, sut.next(foo));
+        assertEquals(baz, sut.next(bar));
+        assertEquals(foo, sut.next(baz));
+        assertArrayEquals(new String[]{"Foo", "Bar", "Baz"}, sut.names());
+    }
+
+    @DisplayName("sut는 같은 이름의 플레이어도 따로 참가시키고, 이름으로는 가장 먼저 참가한 플레이어를 찾아야 한다.")
+    @Test
+    void sut_accepts_duplicate_names() {
+        var sut = new Roster();
+        int first = sut.join("Foo");
+        int bar = sut.join("Bar");
+        int second = sut.join("Foo");
+
+        assertEquals(3, sut.size());
+        assertArrayEquals(new String[]{"Foo", "Bar", "Foo"}, sut.names());
+        assertEquals(first, sut.slotOf("Foo"));
+        sut.leave(first);
+        assertEquals(second, sut.slotOf("Foo"));
+        sut.leave(second);
+        assertEquals(Roster.NONE, sut.slotOf("Foo"));
+        assertEquals(bar, sut.head());
+    }
+
+    @DisplayName("sut는 플레이어가 떠나면 나머지 순서를 유지하고 자리를 다시 써야 한다.")
+    @Test
+    void sut_keeps_order_after_leave_and_reuses_slot() {
+        var sut = new Roster();
+        int foo = sut.join("Foo");
+        int bar = sut.join("Bar");
+        int baz = sut.join("Baz");
+
+        sut.leave(foo);
+        sut.leave(baz);
+        int qux = sut.join("Qux");
+
+        assertEquals(bar, sut.head());
+        assertEquals(qux, sut.next(bar));
+        assertEquals(bar, sut.next(qux));
+        assertEquals(Roster.NONE, sut.slotOf("Foo"));
+        assertEquals(1, sut.positionOf(qux));
+        assertEquals(qux, sut.slotAt(1));
+        assertTrue(qux == foo || qux == baz);
+    }
+
+    @DisplayName("sut는 플레이어별 메시지를 미리 인코딩해 두어야 한다.")
+    @Test
+    void sut_precomputes_player_messages() {
+        var sut = new Roster();
+        int slot = sut.join("철수");
+
+        assertEquals("Enter 철수's guess: ", sut.prompt(slot).text());
+        assertEquals("철수's guess is too low.\n", sut.tooLowMessage(slot).text());
+        assertEquals("철수's guess is too high.\n", sut.tooHighMessage(slot).text());
+        assertEquals("철수's turn timed out.\n", sut.timedOutMessage(slot).text());
+        assertArrayEquals("Enter 철수's guess: ".getBytes(UTF_8),
+                sut.prompt(slot).utf8());
+    }
+
+    @DisplayName("sut는 마지막 플레이어가 떠나면 비어 있어야 한다.")
+    @Test
+    void sut_is_empty_after_last_player_leaves() {
+        var sut = new Roster();
+        sut.leave(sut.join("Foo"));
+
+        assertTrue(sut.isEmpty());
+        assertEquals(0, sut.size());
+    }
+}
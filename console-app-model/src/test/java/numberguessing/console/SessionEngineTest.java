@@ -0,0 +1,320 @@
+package numberguessing.console;
+
+import numberguessing.PositiveIntegerGeneratorStub;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionEngineTest {
+
+    private static final String SINGLE_PLAYER_WIN = "Correct! 3 guesses.\n" + AppModel.SELECT_MODE_MESSAGE;
+
+    @DisplayName("sut은 세션이 생성되면 모드 선택 메시지를 반환해야 한다.")
+    @Test
+    void sut_returns_select_mode_message_when_session_is_created() {
+        var sut = new SessionEngine(() -> new PositiveIntegerGeneratorStub(50));
+        String actual = sut.createSession("a");
+        assertEquals(AppModel.SELECT_MODE_MESSAGE, actual);
+        assertTrue(sut.hasSession("a"));
+    }
+
+    @DisplayName("sut은 이미 존재하는 세션 아이디로 세션을 생성할 수 없다.")
+    @Test
+    void sut_rejects_duplicate_session_id() {
+        var sut = new SessionEngine(() -> new PositiveIntegerGeneratorStub(50));
+        sut.createSession("a");
+        assertThrows(IllegalStateException.class, () -> sut.createSession("a"));
+    }
+
+    @DisplayName("sut은 존재하지 않는 세션으로의 입력을 거부해야 한다.")
+    @Test
+    void sut_rejects_input_for_unknown_session() {
+        var sut = new SessionEngine(() -> new PositiveIntegerGeneratorStub(50));
+        assertThrows(NoSuchElementException.class, () -> sut.processInput("a", "1"));
+    }
+
+    @DisplayName("sut은 각 세션의 입력을 해당 세션의 게임으로 전달해야 한다.")
+    @Test
+    void sut_routes_input_to_its_own_session() {
+        var answers = new PositiveIntegerGeneratorStub(10, 90);
+        var sut = new SessionEngine(() -> new PositiveIntegerGeneratorStub(answers.generateLessThanOrEqualToHundred()));
+        sut.createSession("a");
+        sut.createSession("b");
+        sut.processInput("a", "1");
+        sut.processInput("b", "1");
+
+        assertThat(sut.processInput("a", "50")).startsWith("Your guess is too high.");
+        assertThat(sut.processInput("b", "50")).startsWith("Your guess is too low.");
+    }
+
+    @DisplayName("sut은 게임이 종료된 세션과 제거된 세션을 더 이상 보관하지 않아야 한다.")
+    @Test
+    void sut_drops_completed_and_removed_sessions() {
+        var sut = new SessionEngine(() -> new PositiveIntegerGeneratorStub(50));
+        sut.createSession("a");
+        sut.createSession("b");
+        sut.processInput("a", "3");
+
+        assertFalse(sut.hasSession("a"));
+        assertTrue(sut.removeSession("b"));
+        assertEquals(0, sut.sessionCount());
+    }
+
+    @DisplayName("sut은 내보낸 세션을 되살려 이어서 처리해야 한다.")
+    @Test
+    void sut_restores_evicted_session() {
+        var sut = new SessionEngine(() -> new PositiveIntegerGeneratorStub(50));
+        sut.createSession("a");
+        sut.processInput("a", "1");
+        sut.processInput("a", "30");
+        sut.processInput("a", "70");
+
+        byte[] snapshot = sut.evictSession("a");
+        assertFalse(sut.hasSession("a"));
+        assertNull(sut.evictSession("a"));
+
+        sut.restoreSession("a", snapshot);
+        assertEquals(SINGLE_PLAYER_WIN, sut.processInput("a", "50"));
+    }
+
+    @DisplayName("sut은 유휴 시간 동안 입력이 없던 세션을 제거하고 되살릴 수 있는 스냅샷을 알려야 한다.")
+    @Test
+    void sut_expires_idle_session_with_snapshot() {
+        long[] now = {0};
+        List<String> expired = new ArrayList<>();
+        List<byte[]> snapshots = new ArrayList<>();
+        var sut = new SessionEngine(() -> new PositiveIntegerGeneratorStub(50), Duration.ofSeconds(30),
+                (sessionId, snapshot, idleTimeout) -> {
+                    expired.add(sessionId);
+                    snapshots.add(snapshot);
+                }, Duration.ofMillis(100), () -> now[0]);
+        sut.createSession("a");
+        sut.processInput("a", "1");
+        sut.processInput("a", "30");
+        sut.processInput("a", "70");
+
+        now[0] = Duration.ofSeconds(29).toNanos();
+        assertEquals(0, sut.expireIdleSessions());
+        now[0] = Duration.ofSeconds(30).toNanos();
+        assertEquals(1, sut.expireIdleSessions());
+
+        assertEquals(List.of("a"), expired);
+        assertFalse(sut.hasSession("a"));
+        sut.restoreSession("a", snapshots.get(0));
+        assertEquals(SINGLE_PLAYER_WIN, sut.processInput("a", "50"));
+    }
+
+    @DisplayName("sut은 유휴 시간 안에 입력이 있던 세션을 마지막 입력부터 다시 기다려야 한다.")
+    @Test
+    void sut_extends_session_on_activity() {
+        long[] now = {0};
+        List<String> expired = new ArrayList<>();
+        var sut = new SessionEngine(() -> new PositiveIntegerGeneratorStub(50), Duration.ofSeconds(30),
+                (sessionId, snapshot, idleTimeout) -> expired.add(sessionId), Duration.ofMillis(100), () -> now[0]);
+        sut.createSession("a");
+        sut.createSession("b");
+
+        now[0] = Duration.ofSeconds(20).toNanos();
+        sut.processInput("a", "1");
+        now[0] = Duration.ofSeconds(30).toNanos();
+        assertEquals(1, sut.expireIdleSessions());
+        assertEquals(List.of("b"), expired);
+
+        now[0] = Duration.ofSeconds(49).toNanos();
+        assertEquals(0, sut.expireIdleSessions());
+        now[0] = Duration.ofSeconds(50).toNanos();
+        assertEquals(1, sut.expireIdleSessions());
+        assertEquals(List.of("b", "a"), expired);
+        assertEquals(0, sut.sessionCount());
+    }
+
+    @DisplayName("sut은 세션마다 따로 준 유휴 시간을 따라야 하고, 끝난 세션은 만료시키지 않아야 한다.")
+    @Test
+    void sut_applies_per_session_idle_timeout() {
+        long[] now = {0};
+        List<String> expired = new ArrayList<>();
+        var sut = new SessionEngine(() -> new PositiveIntegerGeneratorStub(50), Duration.ofMinutes(10),
+                (sessionId, snapshot, idleTimeout) -> expired.add(sessionId), Duration.ofMillis(100), () -> now[0]);
+        sut.createSession("short", Duration.ofSeconds(5));
+        sut.createSession("default");
+        sut.createSession("forever", null);
+        sut.createSession("done", Duration.ofSeconds(5));
+        sut.processInput("done", "3");
+
+        now[0] = Duration.ofSeconds(5).toNanos();
+        sut.expireIdleSessions();
+        assertEquals(List.of("short"), expired);
+
+        now[0] = Duration.ofHours(1).toNanos();
+        sut.expireIdleSessions();
+        assertEquals(List.of("short", "default"), expired);
+        assertTrue(sut.hasSession("forever"));
+    }
+
+    @DisplayName("sut은 따로 준 유휴 시간으로 만든 세션을 내보냈다가 같은 유휴 시간으로 되살릴 수 있어야 한다.")
+    @Test
+    void sut_restores_session_with_its_own_idle_timeout() {
+        long[] now = {0};
+        List<String> expired = new ArrayList<>();
+        List<Duration> timeouts = new ArrayList<>();
+        var sut = new SessionEngine(() -> new PositiveIntegerGeneratorStub(50), Duration.ofMinutes(10),
+                (sessionId, snapshot, idleTimeout) -> {
+                    expired.add(sessionId);
+                    timeouts.add(idleTimeout);
+                }, Duration.ofMillis(100), () -> now[0]);
+        sut.createSession("a", Duration.ofSeconds(5));
+        sut.processInput("a", "1");
+
+        now[0] = Duration.ofSeconds(1).toNanos();
+        byte[] snapshot = sut.evictSession("a");
+        sut.restoreSession("a", snapshot, Duration.ofSeconds(5));
+        now[0] = Duration.ofSeconds(5).toNanos();
+        assertEquals(0, sut.expireIdleSessions());
+        now[0] = Duration.ofSeconds(6).toNanos();
+        assertEquals(1, sut.expireIdleSessions());
+
+        assertEquals(List.of("a"), expired);
+        assertEquals(List.of(Duration.ofSeconds(5)), timeouts);
+    }
+
+    @DisplayName("sut은 유휴 시간 없이 만든 엔진에서 유휴 시간을 준 세션을 만들 수 없다.")
+    @Test
+    void sut_rejects_idle_timeout_without_expiry() {
+        var sut = new SessionEngine(() -> new PositiveIntegerGeneratorStub(50));
+        assertThrows(IllegalStateException.class, () -> sut.createSession("a", Duration.ofSeconds(1)));
+        assertEquals(0, sut.expireIdleSessions());
+    }
+
+    @DisplayName("sut은 다른 스레드의 입력으로 끝난 세션에 대한 입력을 알 수 없는 세션으로 거부해야 한다.")
+    @Test
+    void sut_rejects_input_racing_with_session_completion() throws Exception {
+        var sut = new SessionEngine(() -> new PositiveIntegerGeneratorStub(50));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        for (int i = 0; i < 20_000; i++) {
+            String sessionId = Integer.toString(i);
+            sut.createSession(sessionId);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger rejected = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 2; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        sut.processInput(sessionId, "3");
+                    } catch (NoSuchElementException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            assertEquals(1, rejected.get());
+        }
+        executor.shutdown();
+        assertEquals(0, sut.sessionCount());
+    }
+
+    @DisplayName("sut은 내보내는 세션에 대한 입력을 처리했다면 그 입력을 스냅샷에 담고, 아니면 알 수 없는 세션으로 거부해야 한다.")
+    @Test
+    void sut_keeps_accepted_input_racing_with_eviction_in_snapshot() throws Exception {
+        var sut = new SessionEngine(() -> new PositiveIntegerGeneratorStub(50));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        for (int i = 0; i < 500; i++) {
+            String sessionId = Integer.toString(i);
+            sut.createSession(sessionId);
+            sut.processInput(sessionId, "1");
+            CountDownLatch start = new CountDownLatch(1);
+            // 거부될 때까지 오답을 보내고 처리된 오답 수를 반환한다.
+            Future<Integer> accepted = executor.submit(() -> {
+                start.await();
+                int guesses = 0;
+                try {
+                    while (true) {
+                        sut.processInput(sessionId, "30");
+                        guesses++;
+                    }
+                } catch (NoSuchElementException e) {
+                    return guesses;
+                }
+            });
+            Future<byte[]> snapshot = executor.submit(() -> {
+                start.await();
+                return sut.evictSession(sessionId);
+            });
+            start.countDown();
+
+            byte[] evicted = snapshot.get();
+            int guesses = accepted.get() + 1;
+            sut.restoreSession(sessionId, evicted);
+            String expected = guesses == 1 ? "Correct! 1 guess.\n" : "Correct! " + guesses + " guesses.\n";
+            assertEquals(expected + AppModel.SELECT_MODE_MESSAGE, sut.processInput(sessionId, "50"));
+            sut.removeSession(sessionId);
+        }
+        executor.shutdown();
+    }
+
+    @DisplayName("sut은 여러 스레드에서 동시에 많은 세션을 처리해도 각 게임의 결과가 올바라야 한다.")
+    @Test
+    void sut_processes_many_sessions_concurrently() throws Exception {
+        // 스레드 수에 따른 처리량은 console-app-benchmarks 의 SessionEngineBenchmark 로 잰다.
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        var sut = new SessionEngine(() -> new PositiveIntegerGeneratorStub(50));
+        playConcurrently(sut, threads, 100, 50);
+        assertEquals(0, sut.sessionCount());
+    }
+
+    // 스레드마다 sessionsPerThread 개의 세션을 만들어 각각 games 번의 싱글 플레이 게임을 진행한다.
+    private static void playConcurrently(SessionEngine sut, int threads, int sessionsPerThread, int games)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger wins = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String prefix = threads + "-" + t + "-";
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int s = 0; s < sessionsPerThread; s++) {
+                    sut.createSession(prefix + s);
+                }
+                for (int g = 0; g < games; g++) {
+                    for (int s = 0; s < sessionsPerThread; s++) {
+                        String sessionId = prefix + s;
+                        sut.processInput(sessionId, "1");
+                        sut.processInput(sessionId, "30");
+                        sut.processInput(sessionId, "70");
+                        if (SINGLE_PLAYER_WIN.equals(sut.processInput(sessionId, "50"))) {
+                            wins.incrementAndGet();
+                        }
+                    }
+                }
+                for (int s = 0; s < sessionsPerThread; s++) {
+                    sut.processInput(prefix + s, "3");
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(threads * sessionsPerThread * games, wins.get());
+    }
+}
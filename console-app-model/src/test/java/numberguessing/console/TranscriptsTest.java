@@ -0,0 +1,49 @@
+package numberguessing.console;
+
+import numberguessing.PositiveIntegerGeneratorStub;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranscriptsTest {
+
+    @DisplayName("sut은 입력 목록을 재생하고 끝난 게임들의 결과를 반환해야 한다.")
+    @Test
+    void sut_returns_results_of_finished_games() {
+        var generator = new PositiveIntegerGeneratorStub(50, 20);
+        List<String> inputs = List.of("1", "30", "70", "50", "2", "Foo, Bar, Baz", "10", "30", "20", "3");
+
+        TranscriptResult actual = Transcripts.replay(generator, inputs);
+
+        assertEquals(List.of(
+                new GameResult(GameMode.SINGLE_PLAYER, 3, null),
+                new GameResult(GameMode.MULTIPLAYER, 3, "Baz")), actual.games());
+        assertEquals(6, actual.totalGuesses());
+        assertTrue(actual.completed());
+    }
+
+    @DisplayName("sut은 줄바꿈으로 구분된 입력 전체를 재생해야 한다.")
+    @Test
+    void sut_replays_newline_delimited_buffer() {
+        var generator = new PositiveIntegerGeneratorStub(50);
+
+        TranscriptResult actual = Transcripts.replay(generator, "1\r\n50\n1\n40\n");
+
+        assertEquals(List.of(new GameResult(GameMode.SINGLE_PLAYER, 1, null)), actual.games());
+        assertFalse(actual.completed());
+    }
+
+    @DisplayName("sut은 종료를 선택한 뒤의 입력은 무시해야 한다.")
+    @Test
+    void sut_ignores_inputs_after_exit() {
+        var generator = new PositiveIntegerGeneratorStub(50);
+
+        TranscriptResult actual = Transcripts.replay(generator, "3\n1\n50\n");
+
+        assertEquals(List.of(), actual.games());
+        assertTrue(actual.completed());
+    }
+}
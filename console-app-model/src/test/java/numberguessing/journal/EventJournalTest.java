@@ -0,0 +1,240 @@
+package numberguessing.journal;
+
+import numberguessing.PositiveIntegerGeneratorStub;
+import numberguessing.console.AppModel;
+import numberguessing.console.GameMode;
+import numberguessing.console.GuessResult;
+import numberguessing.console.NumberRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private record Turn(long sessionId, GameMode mode, long guess, GuessResult result) {
+    }
+
+    private static List<Turn> readAll(JournalReader reader) throws Exception {
+        List<Turn> turns = new ArrayList<>();
+        reader.poll((timestamp, sessionId, mode, guess, result) -> turns.add(new Turn(sessionId, mode, guess, result)));
+        return turns;
+    }
+
+    @DisplayName("sut은 AppModel에서 처리된 추측을 순서대로 기록하고 재생할 수 있어야 한다.")
+    @Test
+    void sut_records_turns_processed_by_app_model() throws Exception {
+        try (var sut = new EventJournal(this.directory)) {
+            var model = new AppModel(new PositiveIntegerGeneratorStub(50), NumberRange.DEFAULT, null,
+                    new JournalListener(sut, 7));
+            model.processInputs(List.of("1", "30", "70", "50", "2", "Foo, Bar", "50"));
+        }
+
+        List<Turn> actual = readAll(new JournalReader(this.directory));
+
+        assertEquals(List.of(
+                new Turn(7, GameMode.SINGLE_PLAYER, 30, GuessResult.TOO_LOW),
+                new Turn(7, GameMode.SINGLE_PLAYER, 70, GuessResult.TOO_HIGH),
+                new Turn(7, GameMode.SINGLE_PLAYER, 50, GuessResult.CORRECT),
+                new Turn(7, GameMode.MULTIPLAYER, 50, GuessResult.CORRECT)), actual);
+    }
+
+    @DisplayName("sut은 세그먼트가 가득 차면 다음 세그먼트로 넘어가 기록해야 한다.")
+    @Test
+    void sut_rolls_over_to_next_segment() throws Exception {
+        try (var sut = new EventJournal(this.directory, 4, 8)) {
+            for (int i = 0; i < 10; i++) {
+                sut.append(1, GameMode.SINGLE_PLAYER, i, GuessResult.TOO_LOW);
+            }
+        }
+
+        var reader = new JournalReader(this.directory);
+        List<Turn> actual = readAll(reader);
+
+        assertArrayEquals(new long[]{0, 4, 8}, JournalSegments.listSegments(this.directory));
+        assertEquals(10, actual.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, actual.get(i).guess());
+        }
+        assertEquals(10, reader.position());
+    }
+
+    @DisplayName("sut은 다시 열면 기존 레코드 뒤부터 이어서 기록해야 한다.")
+    @Test
+    void sut_appends_after_existing_records_when_reopened() throws Exception {
+        try (var sut = new EventJournal(this.directory, 4, 8)) {
+            sut.append(1, GameMode.SINGLE_PLAYER, 1, GuessResult.TOO_LOW);
+            sut.append(1, GameMode.SINGLE_PLAYER, 2, GuessResult.TOO_LOW);
+        }
+        try (var sut = new EventJournal(this.directory, 4, 8)) {
+            for (int i = 3; i <= 6; i++) {
+                sut.append(1, GameMode.SINGLE_PLAYER, i, GuessResult.TOO_LOW);
+            }
+        }
+
+        List<Turn> actual = readAll(new JournalReader(this.directory));
+
+        assertEquals(6, actual.size());
+        assertEquals(6, actual.get(5).guess());
+    }
+
+    @DisplayName("sut의 리더는 기록 중인 저널을 뒤따라 읽을 수 있어야 한다.")
+    @Test
+    void sut_reader_tails_open_journal() throws Exception {
+        try (var sut = new EventJournal(this.directory, 4, 8)) {
+            var reader = new JournalReader(this.directory);
+            sut.append(1, GameMode.SINGLE_PLAYER, 1, GuessResult.TOO_LOW);
+            sut.awaitWritten();
+            assertEquals(1, reader.poll((timestamp, sessionId, mode, guess, result) -> {
+            }));
+            assertEquals(0, reader.poll((timestamp, sessionId, mode, guess, result) -> {
+            }));
+
+            for (int i = 2; i <= 5; i++) {
+                sut.append(1, GameMode.SINGLE_PLAYER, i, GuessResult.TOO_LOW);
+            }
+            sut.awaitWritten();
+            List<Turn> actual = readAll(reader);
+
+            assertEquals(4, actual.size());
+            assertEquals(5, actual.get(3).guess());
+        }
+    }
+
+    @DisplayName("sut은 여러 스레드가 동시에 기록해도 이벤트를 잃지 않고 스레드별 순서를 지켜야 한다.")
+    @Test
+    void sut_accepts_concurrent_producers() throws Exception {
+        int threads = 4;
+        int turns = 20_000;
+        try (var sut = new EventJournal(this.directory, 10_000, 1024)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long sessionId = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < turns; i++) {
+                        sut.append(sessionId, GameMode.MULTIPLAYER, i, GuessResult.TOO_HIGH);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+        }
+
+        long[] nextGuess = new long[threads];
+        int actual = new JournalReader(this.directory).poll((timestamp, sessionId, mode, guess, result) ->
+                assertEquals(nextGuess[(int) sessionId]++, guess));
+
+        assertEquals(threads * turns, actual);
+    }
+
+    @DisplayName("sut의 링은 가득 찬 상태에서 기다리던 생산자가 포기해도 남은 이벤트를 모두 꺼내면 비어 있어야 한다.")
+    @Test
+    void sut_ring_is_empty_after_waiting_producer_gives_up() throws Exception {
+        var ring = new EventRing(2);
+        ring.publish(1, 1, (byte) 0, 1, (byte) 0, () -> false);
+        ring.publish(2, 1, (byte) 0, 2, (byte) 0, () -> false);
+        AtomicBoolean closed = new AtomicBoolean();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> waiting = executor.submit(() -> ring.publish(3, 1, (byte) 0, 3, (byte) 0, closed::get));
+        Thread.sleep(50);
+        closed.set(true);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+        assertTrue(thrown.getCause() instanceof IllegalStateException);
+        assertEquals(2, ring.drain((timestamp, sessionId, mode, guess, result) -> {
+        }, 10));
+        assertTrue(ring.isEmpty());
+        executor.shutdown();
+    }
+
+    @DisplayName("sut은 링이 가득 차 생산자들이 기다리는 중에 닫아도 닫기를 마쳐야 한다.")
+    @Test
+    void sut_closes_while_producers_wait_for_full_ring() throws Exception {
+        int threads = 8;
+        var sut = new EventJournal(this.directory, 1 << 16, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch started = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            long sessionId = t;
+            executor.submit(() -> {
+                started.countDown();
+                try {
+                    for (int i = 0; ; i++) {
+                        sut.append(sessionId, GameMode.MULTIPLAYER, i, GuessResult.TOO_HIGH);
+                    }
+                } catch (IllegalStateException e) {
+                    // 닫힌 저널
+                }
+            });
+        }
+        started.await();
+        Thread.sleep(50);
+
+        Future<?> closing = executor.submit(() -> {
+            sut.close();
+            return null;
+        });
+
+        closing.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @DisplayName("sut은 닫기와 경합한 기록을 모두 쓰거나 거부해야 하고, 받아들인 기록을 잃지 않아야 한다.")
+    @Test
+    void sut_writes_every_accepted_append_racing_with_close() throws Exception {
+        int threads = 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int round = 0; round < 200; round++) {
+            Path roundDirectory = this.directory.resolve(Integer.toString(round));
+            var sut = new EventJournal(roundDirectory, 1 << 16, 1 << 10);
+            AtomicLong accepted = new AtomicLong();
+            CountDownLatch started = new CountDownLatch(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long sessionId = t;
+                futures.add(executor.submit(() -> {
+                    started.countDown();
+                    try {
+                        for (int i = 0; ; i++) {
+                            sut.append(sessionId, GameMode.SINGLE_PLAYER, i, GuessResult.TOO_LOW);
+                            accepted.incrementAndGet();
+                        }
+                    } catch (IllegalStateException e) {
+                        // 닫힌 저널
+                    }
+                }));
+            }
+            started.await();
+
+            sut.close();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+
+            int written = new JournalReader(roundDirectory).poll((timestamp, sessionId, mode, guess, result) -> {
+            });
+            assertEquals(accepted.get(), written);
+        }
+        executor.shutdown();
+    }
+}
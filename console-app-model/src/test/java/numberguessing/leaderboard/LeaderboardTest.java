@@ -0,0 +1,126 @@
+package numberguessing.leaderboard;
+
+import numberguessing.PositiveIntegerGeneratorStub;
+import numberguessing.console.AppModel;
+import numberguessing.console.NumberRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+    @DisplayName("sut은 플레이어별로 승리 수, 최고 기록, 평균과 백분위수를 누적해야 한다.")
+    @Test
+    void sut_aggregates_statistics_per_player() {
+        var sut = new Leaderboard();
+        for (int guesses = 1; guesses <= 10; guesses++) {
+            sut.record("Foo", guesses);
+        }
+        sut.record("Bar", 7);
+
+        PlayerStatistics actual = sut.statistics("Foo");
+
+        assertEquals(new PlayerStanding("Foo", 10, 55, 1), actual.standing());
+        assertEquals(5.5, actual.standing().meanGuesses());
+        assertEquals(5, actual.p50Guesses());
+        assertEquals(9, actual.p90Guesses());
+        assertEquals(10, actual.p99Guesses());
+        assertNull(sut.statistics("Baz"));
+        assertEquals(2, sut.playerCount());
+    }
+
+    @DisplayName("sut은 승리 수가 많은 순, 같으면 평균 추측 횟수가 적은 순으로 순위를 매겨야 한다.")
+    @Test
+    void sut_ranks_by_wins_then_mean_guesses() {
+        var sut = new Leaderboard();
+        sut.record("Foo", 5);
+        sut.record("Bar", 3);
+        sut.record("Baz", 9);
+        sut.record("Baz", 9);
+
+        List<PlayerStanding> actual = sut.top(3);
+
+        assertEquals(List.of("Baz", "Bar", "Foo"), actual.stream().map(PlayerStanding::player).toList());
+        assertEquals(2, sut.top(2).size());
+        assertEquals(3, sut.top(10).size());
+    }
+
+    @DisplayName("sut은 캐시된 순위 밖의 결과로는 캐시를 무효화하지 않고, 순위 안에 드는 결과로는 무효화해야 한다.")
+    @Test
+    void sut_invalidates_cached_top_only_when_it_changes() {
+        var sut = new Leaderboard(2);
+        sut.record("Foo", 1);
+        sut.record("Foo", 1);
+        sut.record("Bar", 1);
+        sut.record("Bar", 1);
+        sut.record("Baz", 9);
+        List<PlayerStanding> cached = sut.top(2);
+
+        sut.record("Qux", 9);
+        assertSame(cached, sut.top(2));
+
+        sut.record("Qux", 1);
+        sut.record("Qux", 1);
+        List<PlayerStanding> actual = sut.top(2);
+        assertNotSame(cached, actual);
+        assertEquals("Qux", actual.get(0).player());
+    }
+
+    @DisplayName("sut은 리스너로 붙으면 싱글 플레이 결과는 주어진 이름으로, 멀티 플레이 결과는 승자 이름으로 기록해야 한다.")
+    @Test
+    void sut_records_results_from_app_model() {
+        var sut = new Leaderboard();
+        var single = new AppModel(new PositiveIntegerGeneratorStub(50), NumberRange.DEFAULT, null,
+                sut.forPlayer("Foo"));
+        single.processInput("1");
+        single.processInput("30");
+        single.processInput("50");
+        var multi = new AppModel(new PositiveIntegerGeneratorStub(50), NumberRange.DEFAULT, null, sut);
+        multi.processInput("2");
+        multi.processInput("Bar, Baz");
+        multi.processInput("30");
+        multi.processInput("50");
+
+        assertEquals(new PlayerStanding("Foo", 1, 2, 2), sut.statistics("Foo").standing());
+        assertEquals(new PlayerStanding("Baz", 1, 2, 2), sut.statistics("Baz").standing());
+        assertNull(sut.statistics("Bar"));
+    }
+
+    @DisplayName("sut은 여러 스레드가 동시에 기록해도 결과를 잃지 않아야 한다.")
+    @Test
+    void sut_records_concurrently() throws Exception {
+        var sut = new Leaderboard(10);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        sut.record("Player" + i % 100, i % 7 + 1);
+                        if (i % 100 == 0) {
+                            sut.top(10);
+                        }
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long wins = 0;
+        for (int i = 0; i < 100; i++) {
+            wins += sut.statistics("Player" + i).standing().wins();
+        }
+        assertEquals(80_000, wins);
+        assertEquals(sut.top(100).subList(0, 10), sut.top(10));
+    }
+}
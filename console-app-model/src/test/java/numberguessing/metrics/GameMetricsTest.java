@@ -0,0 +1,95 @@
+package numberguessing.metrics;
+
+import numberguessing.PositiveIntegerGeneratorStub;
+import numberguessing.console.AppModel;
+import numberguessing.console.GameListener;
+import numberguessing.console.GameMode;
+import numberguessing.console.NumberRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMetricsTest {
+
+    private static AppModel play(GameMetrics sut) {
+        var model = new AppModel(new PositiveIntegerGeneratorStub(50, 50), NumberRange.DEFAULT, null, sut);
+        model.processInputs(List.of("1", "30", "50", "2", "Foo, Bar", "70", "50"));
+        model.flushOutput();
+        return model;
+    }
+
+    @DisplayName("sut은 모드별 게임 수와 승리 수, 추측 수, 처리 시간을 모아야 한다.")
+    @Test
+    void sut_counts_games_guesses_and_latencies() {
+        var sut = new GameMetrics();
+        play(sut);
+
+        assertEquals(1, sut.gamesStarted(GameMode.SINGLE_PLAYER));
+        assertEquals(1, sut.gamesStarted(GameMode.MULTIPLAYER));
+        assertEquals(1, sut.wins(GameMode.SINGLE_PLAYER));
+        assertEquals(1, sut.wins(GameMode.MULTIPLAYER));
+        assertEquals(4, sut.guessesProcessed());
+        assertEquals(7, sut.processInputLatency().count());
+        assertEquals(1, sut.flushOutputLatency().count());
+    }
+
+    @DisplayName("sut은 추측으로 해석할 수 없는 입력을 세어야 한다.")
+    @Test
+    void sut_counts_invalid_inputs() {
+        var sut = new GameMetrics();
+        var model = new AppModel(new PositiveIntegerGeneratorStub(50), NumberRange.DEFAULT, null, sut);
+        model.processInput("1");
+
+        model.processInput("fifty");
+
+        assertEquals(1, sut.invalidInputs());
+        assertEquals(2, sut.processInputLatency().count());
+    }
+
+    @DisplayName("sut은 다른 리스너와 함께 사용해도 모든 리스너에 이벤트가 전달되어야 한다.")
+    @Test
+    void sut_receives_events_through_composite_listener() {
+        var first = new GameMetrics();
+        var second = new GameMetrics();
+        var model = new AppModel(new PositiveIntegerGeneratorStub(50), NumberRange.DEFAULT, null,
+                GameListener.of(first, second));
+        model.processInputs(List.of("1", "50"));
+
+        assertEquals(1, first.wins(GameMode.SINGLE_PLAYER));
+        assertEquals(1, second.wins(GameMode.SINGLE_PLAYER));
+        assertEquals(2, second.processInputLatency().count());
+    }
+
+    @DisplayName("JMX reporter는 sut의 값을 MBean 속성으로 노출하고 닫히면 등록을 해제해야 한다.")
+    @Test
+    void jmx_reporter_exposes_metrics() throws Exception {
+        var sut = new GameMetrics();
+        play(sut);
+        var server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name;
+        try (var reporter = new JmxMetricsReporter(sut, "numberguessing.test:type=GameMetrics")) {
+            name = reporter.objectName();
+            assertEquals(4L, server.getAttribute(name, "GuessesProcessed"));
+            assertEquals(1L, server.getAttribute(name, "MultiplayerWins"));
+        }
+        assertFalse(server.isRegistered(name));
+    }
+
+    @DisplayName("텍스트 reporter는 sut의 값을 한 번에 읽을 수 있는 텍스트로 만들어야 한다.")
+    @Test
+    void text_reporter_formats_metrics() {
+        var sut = new GameMetrics();
+        play(sut);
+
+        String actual = TextMetricsReporter.format(sut);
+
+        assertThat(actual).startsWith("games started: single=1 multi=1, wins: single=1 multi=1, guesses=4");
+        assertThat(actual).contains("processInput: count=7 ");
+    }
+}
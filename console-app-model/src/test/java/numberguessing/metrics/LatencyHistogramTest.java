@@ -0,0 +1,48 @@
+package numberguessing.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @DisplayName("sut의 각 칸은 값을 포함하고 상대 오차가 1/16 이하여야 한다.")
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 15, 16, 17, 31, 32, 1000, 123_456_789, Long.MAX_VALUE})
+    void sut_bucket_contains_value_within_relative_error(long value) {
+        int index = LatencyHistogram.bucketIndex(value);
+        long upperBound = LatencyHistogram.bucketUpperBound(index);
+
+        assertTrue(index < LatencyHistogram.BUCKETS);
+        assertTrue(value <= upperBound);
+        assertTrue(upperBound - value <= value / LatencyHistogram.SUB_BUCKETS);
+    }
+
+    @DisplayName("sut은 기록된 값들의 백분위수와 최댓값을 반환해야 한다.")
+    @Test
+    void sut_returns_percentiles() {
+        var sut = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            sut.record(i * 1000L);
+        }
+
+        assertEquals(1000, sut.count());
+        assertEquals(1_000_000, sut.max());
+        assertEquals(500_500.0, sut.mean(), 0.001);
+        assertEquals(0, Math.abs(sut.percentile(0.5) - 500_000) * 16 / 500_000);
+        assertEquals(0, Math.abs(sut.percentile(0.99) - 990_000) * 16 / 990_000);
+        assertEquals(1_000_000, sut.percentile(1.0));
+    }
+
+    @DisplayName("sut은 기록이 없으면 0을 반환해야 한다.")
+    @Test
+    void sut_returns_zero_when_empty() {
+        var sut = new LatencyHistogram();
+
+        assertEquals(0, sut.percentile(0.99));
+        assertEquals(0.0, sut.mean(), 0.0);
+    }
+}
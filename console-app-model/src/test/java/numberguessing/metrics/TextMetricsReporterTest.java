@@ -0,0 +1,55 @@
+package numberguessing.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextMetricsReporterTest {
+
+    // 처음 한 번은 쓰기에 실패하고 그 뒤로는 성공한 횟수를 센다.
+    private static final class FailingOnceAppendable implements Appendable {
+
+        final CountDownLatch written = new CountDownLatch(2);
+        final IOException error = new IOException("output failed");
+        private boolean failed;
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            if (!this.failed) {
+                this.failed = true;
+                throw this.error;
+            }
+            this.written.countDown();
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            return append(csq.subSequence(start, end));
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            return append(String.valueOf(c));
+        }
+    }
+
+    @DisplayName("sut은 주기적인 출력이 실패해도 다음 주기에 계속 출력하고 닫을 때 실패를 알려야 한다.")
+    @Test
+    void sut_keeps_reporting_after_failure() throws InterruptedException {
+        var output = new FailingOnceAppendable();
+        var sut = new TextMetricsReporter(new GameMetrics(), output, Duration.ofMillis(10));
+
+        boolean kept = output.written.await(10, TimeUnit.SECONDS);
+
+        var thrown = assertThrows(IllegalStateException.class, sut::close);
+        assertTrue(kept);
+        assertSame(output.error, thrown.getCause().getCause());
+    }
+}
@@ -0,0 +1,99 @@
+package numberguessing.replay;
+
+import numberguessing.console.AppModel;
+import numberguessing.console.GameListener;
+import numberguessing.console.OutputSink;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrafficReplayerTest {
+
+    @DisplayName("sut은 기록된 세션들을 여러 스레드에서 재생하고 출력이 기록과 같다고 알려야 한다.")
+    @Test
+    void sut_replays_recorded_sessions() throws Exception {
+        List<SessionRecording> sessions = SessionRecording.readAll(new ByteArrayInputStream(record(1_000, 42)));
+        assertEquals(1_000, sessions.size());
+        long inputs = sessions.stream().mapToLong(session -> session.inputs().size()).sum();
+
+        ReplayReport report = new TrafficReplayer(4).replay(sessions);
+
+        assertTrue(report.matches());
+        assertEquals(1_000, report.sessions());
+        assertEquals(inputs, report.inputs());
+        assertTrue(report.sampledMismatches().isEmpty());
+        assertEquals(4, report.threads());
+    }
+
+    @DisplayName("sut은 출력이 기록과 처음 달라진 세션과 입력의 위치를 알려야 한다.")
+    @Test
+    void sut_reports_first_mismatching_input() throws Exception {
+        List<SessionRecording> sessions = new ArrayList<>(
+                SessionRecording.readAll(new ByteArrayInputStream(record(100, 7))));
+        SessionRecording original = sessions.get(30);
+        long[] digests = original.outputDigests().clone();
+        digests[2]++;
+        sessions.set(30, new SessionRecording(original.seed(), original.inputs(), digests));
+
+        ReplayReport report = new TrafficReplayer(2).replay(sessions);
+
+        assertFalse(report.matches());
+        assertEquals(1, report.mismatches());
+        assertEquals(List.of(new ReplayReport.Mismatch(30, 1)), report.sampledMismatches());
+    }
+
+    @DisplayName("sut은 같은 시드로 만든 기록기로 같은 세션 시드와 같은 기록을 만들어야 한다.")
+    @Test
+    void sut_records_deterministically_with_same_seed() throws Exception {
+        assertArrayEquals(record(50, 1), record(50, 1));
+        assertFalse(Arrays.equals(record(50, 1), record(50, 2)));
+    }
+
+    @DisplayName("sut은 출력을 나누어 쓴 방식과 상관없이 같은 해시를 계산해야 한다.")
+    @Test
+    void sut_digests_characters_regardless_of_chunking() {
+        var pieces = new DigestingOutputSink(OutputSink.discard());
+        pieces.writeMessage("Correct! ");
+        pieces.writeNumber(-12);
+        pieces.writeText(" guesses.");
+        var whole = new DigestingOutputSink(OutputSink.discard());
+        whole.writeText("Correct! -12 guesses.");
+
+        assertEquals(whole.takeDigest(), pieces.takeDigest());
+        assertEquals(DigestingOutputSink.EMPTY, pieces.takeDigest());
+    }
+
+    // 싱글 플레이 게임 하나를 1 부터 차례대로 추측하여 맞히고 종료하는 세션들을 기록한다.
+    private static byte[] record(int sessions, long seed) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var recorder = new TrafficRecorder(bytes, seed)) {
+            for (int s = 0; s < sessions; s++) {
+                TrafficRecorder.Session session = recorder.startSession();
+                var output = new StringBuilder();
+                AppModel model = session.newModel(OutputSink.to(output), GameListener.NONE);
+                play(model, session, output, "1");
+                for (int guess = 1; !output.toString().contains("Correct"); guess++) {
+                    play(model, session, output, Integer.toString(guess));
+                }
+                play(model, session, output, "3");
+                session.finish();
+            }
+            assertEquals(sessions, recorder.sessionCount());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void play(AppModel model, TrafficRecorder.Session session, StringBuilder output, String input) {
+        output.setLength(0);
+        model.processInput(input);
+        session.inputProcessed(input);
+    }
+}
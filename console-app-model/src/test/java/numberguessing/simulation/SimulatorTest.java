@@ -0,0 +1,80 @@
+package numberguessing.simulation;
+
+import numberguessing.PositiveIntegerGeneratorStub;
+import numberguessing.SplittableRandomGenerator;
+import numberguessing.console.NumberRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulatorTest {
+
+    private static final int[] ALL_ANSWERS = IntStream.rangeClosed(1, 100).toArray();
+
+    @DisplayName("sut은 이진 탐색 전략으로 모든 정답을 7번 이내에 맞춰야 한다.")
+    @Test
+    void sut_finds_every_answer_within_seven_guesses_with_binary_search() {
+        var sut = new Simulator(batch -> new PositiveIntegerGeneratorStub(ALL_ANSWERS), 0);
+
+        GuessDistribution actual = sut.run(GuessingStrategies.BINARY_SEARCH, 100);
+
+        assertEquals(100, actual.games());
+        assertEquals(7, actual.max());
+        assertEquals(1, actual.count(1));
+    }
+
+    @DisplayName("sut은 요청한 수만큼의 게임을 여러 묶음에 걸쳐 병렬로 진행해야 한다.")
+    @Test
+    void sut_plays_requested_number_of_games_in_parallel() {
+        var sut = new Simulator(batch -> {
+            var random = new SplittableRandom(batch);
+            return (lowerBound, upperBound) -> random.nextLong(lowerBound, upperBound + 1);
+        }, 42);
+
+        GuessDistribution actual = sut.run(GuessingStrategies.RANDOM, 25_001);
+
+        assertEquals(25_001, actual.games());
+        assertTrue(actual.percentile(0.5) <= actual.percentile(0.99));
+        assertTrue(actual.max() <= 100);
+    }
+
+    @DisplayName("sut은 같은 시드와 생성기로 같은 분포를 만들어야 한다.")
+    @Test
+    void sut_is_deterministic_for_same_seed() {
+        var first = new Simulator(batch -> new PositiveIntegerGeneratorStub(ALL_ANSWERS), 7)
+                .run(GuessingStrategies.RANDOM, 30_000);
+        var second = new Simulator(batch -> new PositiveIntegerGeneratorStub(ALL_ANSWERS), 7)
+                .run(GuessingStrategies.RANDOM, 30_000);
+
+        for (int guesses = 1; guesses <= 100; guesses++) {
+            assertEquals(first.count(guesses), second.count(guesses));
+        }
+    }
+
+    @DisplayName("sut은 가운데에서 하나 빗나가는 전략이 이진 탐색보다 평균적으로 더 많이 추측해야 한다.")
+    @Test
+    void sut_shows_off_by_one_strategy_needs_more_guesses() {
+        var sut = new Simulator(batch -> new PositiveIntegerGeneratorStub(ALL_ANSWERS), 0);
+
+        double binarySearch = sut.run(GuessingStrategies.BINARY_SEARCH, 100).mean();
+        double offByOne = sut.run(GuessingStrategies.OFF_BY_ONE, 100).mean();
+
+        assertTrue(offByOne > binarySearch);
+    }
+
+    @DisplayName("sut은 Long.MAX_VALUE 까지의 구간에서도 이진 탐색으로 64번 이내에 맞춰야 한다.")
+    @Test
+    void sut_supports_ranges_up_to_long_max_value() {
+        var range = new NumberRange(1, Long.MAX_VALUE);
+        var sut = new Simulator(batch -> new SplittableRandomGenerator(batch), range, 0);
+
+        GuessDistribution actual = sut.run(GuessingStrategies.BINARY_SEARCH, 1000);
+
+        assertEquals(1000, actual.games());
+        assertTrue(actual.max() <= 64);
+    }
+}
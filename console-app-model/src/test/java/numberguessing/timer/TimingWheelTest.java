@@ -0,0 +1,134 @@
+package numberguessing.timer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long TICK = 10;
+
+    @DisplayName("sut은 만료 시각 뒤 첫 틱에서 타이머를 만료시켜야 한다.")
+    @ParameterizedTest
+    @ValueSource(longs = {1, 10, 11, 640, 641, 40_960, 123_456_789})
+    void sut_fires_timer_at_first_tick_after_deadline(long deadline) {
+        var sut = new TimingWheel<String>(TICK, 0);
+        sut.schedule("a", deadline);
+        long dueTick = (deadline + TICK - 1) / TICK * TICK;
+        List<String> fired = new ArrayList<>();
+
+        sut.advance(dueTick - 1, fired::add);
+        assertTrue(fired.isEmpty());
+        sut.advance(dueTick, fired::add);
+
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, sut.size());
+    }
+
+    @DisplayName("sut은 만료 순서대로 타이머를 알려야 한다.")
+    @Test
+    void sut_fires_timers_in_deadline_order() {
+        var sut = new TimingWheel<Integer>(TICK, 0);
+        int[] deadlines = {5_000, 30, 700, 90_000, 1};
+        for (int deadline : deadlines) {
+            sut.schedule(deadline, deadline);
+        }
+        List<Integer> fired = new ArrayList<>();
+
+        assertEquals(5, sut.advance(100_000, fired::add));
+
+        assertEquals(List.of(1, 30, 700, 5_000, 90_000), fired);
+    }
+
+    @DisplayName("sut은 취소된 타이머를 만료시키지 않아야 한다.")
+    @Test
+    void sut_does_not_fire_cancelled_timer() {
+        var sut = new TimingWheel<String>(TICK, 0);
+        var cancelled = sut.schedule("a", 5_000);
+        sut.schedule("b", 5_000);
+
+        assertTrue(sut.cancel(cancelled));
+        assertFalse(sut.cancel(cancelled));
+        List<String> fired = new ArrayList<>();
+        sut.advance(10_000, fired::add);
+
+        assertEquals(List.of("b"), fired);
+        assertFalse(cancelled.isPending());
+    }
+
+    @DisplayName("sut은 이미 지난 시각의 타이머를 다음 틱에 만료시켜야 한다.")
+    @Test
+    void sut_fires_past_deadline_on_next_tick() {
+        var sut = new TimingWheel<String>(TICK, 0);
+        sut.advance(1_000, value -> {
+        });
+        sut.schedule("a", 500);
+        List<String> fired = new ArrayList<>();
+
+        sut.advance(1_000, fired::add);
+        assertTrue(fired.isEmpty());
+        sut.advance(1_010, fired::add);
+
+        assertEquals(List.of("a"), fired);
+    }
+
+    @DisplayName("sut은 단계 수를 넘는 먼 타이머도 제때 만료시켜야 한다.")
+    @Test
+    void sut_fires_timer_beyond_wheel_span() {
+        var sut = new TimingWheel<String>(1, 0);
+        long deadline = (1L << 37) + 12_345;
+        sut.schedule("far", deadline);
+        List<String> fired = new ArrayList<>();
+
+        sut.advance(deadline - 1, fired::add);
+        assertTrue(fired.isEmpty());
+        sut.advance(deadline, fired::add);
+
+        assertEquals(List.of("far"), fired);
+    }
+
+    @DisplayName("sut은 만료 콜백 안에서 새 타이머를 등록할 수 있어야 한다.")
+    @Test
+    void sut_allows_rescheduling_from_callback() {
+        var sut = new TimingWheel<Integer>(TICK, 0);
+        sut.schedule(1, 100);
+        List<Integer> fired = new ArrayList<>();
+
+        sut.advance(1_000, value -> {
+            fired.add(value);
+            if (value < 3) {
+                sut.schedule(value + 1, (value + 1) * 100L);
+            }
+        });
+
+        assertEquals(List.of(1, 2, 3), fired);
+    }
+
+    @DisplayName("sut은 백만 개의 타이머를 등록하고 절반을 취소해도 나머지를 모두 만료시켜야 한다.")
+    @Test
+    void sut_handles_million_timers() {
+        var sut = new TimingWheel<Integer>(TICK, 0);
+        List<TimingWheel.Timeout<Integer>> timeouts = new ArrayList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            timeouts.add(sut.schedule(i, 1_000 + (i * 7919L) % 600_000));
+        }
+        for (int i = 0; i < timeouts.size(); i += 2) {
+            sut.cancel(timeouts.get(i));
+        }
+        int[] fired = new int[1];
+
+        sut.advance(700_000, value -> {
+            assertEquals(1, value % 2);
+            fired[0]++;
+        });
+
+        assertEquals(500_000, fired[0]);
+        assertEquals(0, sut.size());
+    }
+}
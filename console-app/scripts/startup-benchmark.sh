@@ -0,0 +1,43 @@
+#!/usr/bin/env bash
+# App 을 띄워 첫 안내 메시지를 출력하고 바로 종료('3')하기까지의 시간을 AppCDS 아카이브 없이, 그리고 아카이브를 써서 각각 재서
+# 비교한다. 두 실행은 같은 JVM 플래그를 쓰고 -XX:SharedArchiveFile 만 다르다.
+#
+#   console-app/scripts/startup-benchmark.sh [runs]
+#
+# 아카이브는 installDist 로 설치한 jar 로 만들고 같은 클래스패스로 실행해야 하므로 이 스크립트가 직접 만든다. 훈련 스크립트의
+# 게임이 끝까지 진행되도록 정답이 고정된 CdsTrainingApp 으로 훈련한다.
+set -euo pipefail
+
+runs=${1:-20}
+root=$(cd "$(dirname "$0")/../.." && pwd)
+install="$root/console-app/build/install/console-app"
+archive="$root/console-app/build/cds/startup-benchmark.jsa"
+startup_flags=(-XX:TieredStopAtLevel=1 -XX:+UseSerialGC -Xshare:auto)
+
+"$root/gradlew" -q -p "$root" :console-app:installDist
+classpath=$(find "$install/lib" -name '*.jar' | sort | paste -sd: -)
+mkdir -p "$(dirname "$archive")"
+java "${startup_flags[@]}" -XX:ArchiveClassesAtExit="$archive" -cp "$classpath" numberguessing.console.CdsTrainingApp \
+    < "$root/console-app/src/cds/training-input.txt" > /dev/null
+
+# 실행 한 번의 벽시계 시간(ms)을 runs 번 재서 평균과 최솟값을 출력한다.
+measure() {
+    local label=$1
+    shift
+    local total=0 best=
+    for _ in $(seq "$runs"); do
+        local start end elapsed
+        start=$(date +%s%N)
+        echo 3 | "$@" > /dev/null
+        end=$(date +%s%N)
+        elapsed=$(((end - start) / 1000000))
+        total=$((total + elapsed))
+        if [[ -z $best || $elapsed -lt $best ]]; then
+            best=$elapsed
+        fi
+    done
+    printf '%-12s mean=%4d ms  min=%4d ms  (%d runs)\n' "$label" $((total / runs)) "$best" "$runs"
+}
+
+measure default java "${startup_flags[@]}" -cp "$classpath" numberguessing.console.App
+measure appcds java "${startup_flags[@]}" -XX:SharedArchiveFile="$archive" -cp "$classpath" numberguessing.console.App
@@ -7,7 +7,7 @@ public class RandomGenerator implements PositiveIntegerGenerator {
     private final Random random = new Random();
 
     @Override
-    public int generateLessThanOrEqualToHundred() {
-        return random.nextInt(100) + 1;
+    public long generate(long lowerBound, long upperBound) {
+        return BoundedRandom.nextLong(random, lowerBound, upperBound);
     }
 }
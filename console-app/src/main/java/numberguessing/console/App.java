@@ -1,21 +1,136 @@
 package numberguessing.console;
 
+import numberguessing.PositiveIntegerGenerator;
 import numberguessing.RandomGenerator;
+import numberguessing.metrics.GameMetrics;
+import numberguessing.metrics.JmxMetricsReporter;
+import numberguessing.metrics.MetricsReporter;
+import numberguessing.metrics.TextMetricsReporter;
 
-import java.util.Scanner;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * 콘솔 게임. 게임 지표는 옵션으로 요청할 때만 모은다. {@code --jmx} 를 주면 JMX({@value JmxMetricsReporter#DEFAULT_OBJECT_NAME})로
+ * 노출하고, {@code --metrics-interval=<seconds>} 를 주면 그 주기마다 표준 오류로 출력한다.
+ * <p>
+ * 프로세스를 사용자마다 짧게 띄우는 배포를 위해 첫 안내 메시지까지의 경로에서 무거운 클래스를 피한다. 입력은 정규식을 쓰는
+ * {@code Scanner} 대신 {@link BufferedReader} 로 읽고, JMX 등록은 요청한 경우에만 첫 안내 메시지를 출력한 뒤에 한다.
+ * 입력이 끝나면 종료한다.
+ * <p>
+ * {@code --batch} 를 주면 표준 입력으로 스크립트를 흘려 넣는 실행을 위한 모드로 동작한다. 출력은 {@code System.out} 을 거치지
+ * 않고 큰 버퍼에 모았다가 다음 줄을 읽으려면 입력을 기다려야 할 때만 내보내고, 입력은 {@link ConsoleLineReader} 로 바이트
+ * 그대로 읽는다. 출력 내용은 기본 모드와 같다.
+ */
 public class App {
-    public static void main(String[] args) {
-        AppModel model = new AppModel(new RandomGenerator());
-        Scanner scanner = new Scanner(System.in);
-        runLoop(model, scanner);
-        scanner.close();
+
+    private static final String JMX_OPTION = "--jmx";
+    private static final String METRICS_INTERVAL_OPTION = "--metrics-interval=";
+    private static final String BATCH_OPTION = "--batch";
+    private static final int BATCH_BUFFER_SIZE = 1 << 20;
+
+    public static void main(String[] args) throws IOException {
+        run(args, new RandomGenerator());
+    }
+
+    static void run(String[] args, PositiveIntegerGenerator generator) throws IOException {
+        boolean jmx = hasOption(args, JMX_OPTION);
+        Duration metricsInterval = metricsInterval(args);
+        GameMetrics metrics = jmx || metricsInterval != null ? new GameMetrics() : null;
+        GameListener listener = metrics != null ? metrics : GameListener.NONE;
+        if (hasOption(args, BATCH_OPTION)) {
+            var output = new ConsoleOutputBuffer(new FileOutputStream(FileDescriptor.out), BATCH_BUFFER_SIZE);
+            AppModel model = new AppModel(generator, output, listener);
+            List<MetricsReporter> reporters = startReporters(metrics, jmx, metricsInterval);
+            try {
+                runBatchLoop(model, output, new ConsoleLineReader(System.in, BATCH_BUFFER_SIZE));
+            } finally {
+                closeAll(reporters);
+            }
+            return;
+        }
+        AppModel model = new AppModel(generator, null, listener);
+        System.out.println(model.flushOutput());
+        BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
+        List<MetricsReporter> reporters = startReporters(metrics, jmx, metricsInterval);
+        try {
+            runLoop(model, reader);
+        } finally {
+            closeAll(reporters);
+        }
+    }
+
+    private static boolean hasOption(String[] args, String option) {
+        for (String arg : args) {
+            if (arg.equals(option)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Duration metricsInterval(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith(METRICS_INTERVAL_OPTION)) {
+                return Duration.ofSeconds(Long.parseLong(arg.substring(METRICS_INTERVAL_OPTION.length())));
+            }
+        }
+        return null;
+    }
+
+    private static List<MetricsReporter> startReporters(GameMetrics metrics, boolean jmx, Duration metricsInterval) {
+        List<MetricsReporter> reporters = new ArrayList<>(2);
+        if (jmx) {
+            reporters.add(new JmxMetricsReporter(metrics));
+        }
+        if (metricsInterval != null) {
+            reporters.add(new TextMetricsReporter(metrics, System.err, metricsInterval));
+        }
+        return reporters;
     }
 
-    private static void runLoop(AppModel model, Scanner scanner) {
-        while (!model.isCompleted()) {
+    // try-with-resources 처럼 시작한 역순으로 닫는다.
+    private static void closeAll(List<MetricsReporter> reporters) {
+        for (int i = reporters.size() - 1; i >= 0; i--) {
+            reporters.get(i).close();
+        }
+    }
+
+    private static void runLoop(AppModel model, BufferedReader reader) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            model.processInput(line);
+            if (model.isCompleted()) {
+                return;
+            }
             System.out.println(model.flushOutput());
-            model.processInput(scanner.nextLine());
         }
     }
+
+    // 기본 모드의 println 과 같은 출력을 내도록 턴마다 줄 구분자를 덧붙인다.
+    private static void runBatchLoop(AppModel model, ConsoleOutputBuffer output, ConsoleLineReader reader)
+            throws IOException {
+        String lineSeparator = System.lineSeparator();
+        output.writeMessage(lineSeparator);
+        while (true) {
+            if (!reader.hasBufferedLine()) {
+                output.flush();
+            }
+            if (!reader.readLine()) {
+                break;
+            }
+            model.processInput(reader.buffer(), reader.lineStart(), reader.lineLength());
+            if (model.isCompleted()) {
+                break;
+            }
+            output.writeMessage(lineSeparator);
+        }
+        output.flush();
+    }
 }
@@ -0,0 +1,17 @@
+package numberguessing.console;
+
+import java.io.IOException;
+
+/**
+ * AppCDS 아카이브를 만들 때 {@link App} 대신 실행하는 진입점. 정답을 항상 {@value #ANSWER} 로 고정하여 {@link App} 을 실행하므로,
+ * 표준 입력으로 준 훈련 스크립트가 싱글 플레이와 멀티 플레이 게임을 끝까지 진행하고 두 모드의 클래스가 모두 아카이브에 담긴다.
+ * 인자는 {@link App} 과 같다.
+ */
+public class CdsTrainingApp {
+
+    static final long ANSWER = 50;
+
+    public static void main(String[] args) throws IOException {
+        App.run(args, (lowerBound, upperBound) -> Math.min(Math.max(ANSWER, lowerBound), upperBound));
+    }
+}
@@ -0,0 +1,147 @@
+package numberguessing.console;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * {@link AppModel} 의 출력을 채널에 쓸 {@link ByteBuffer} 목록으로 모으는 {@link OutputSink}.
+ * <p>
+ * 고정 메시지는 모든 연결이 공유하는 direct 버퍼로 한 번만 인코딩해 두고, 연결마다 그 버퍼의 뷰만 대기열에 넣는다.
+ * 플레이어 이름과 숫자 같은 가변 텍스트만 연결별 scratch 버퍼에 인코딩한다. 대기열은 gathering write 한 번으로 내보낸다.
+ */
+final class ChannelOutputSink implements OutputSink {
+
+    private static final ConcurrentHashMap<String, ByteBuffer> ENCODED_MESSAGES = new ConcurrentHashMap<>();
+
+    private static final int INITIAL_SCRATCH_CAPACITY = 256;
+
+    private final CharsetEncoder encoder = UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private ByteBuffer[] pending = new ByteBuffer[16];
+    private int head;
+    private int tail;
+    private ByteBuffer scratch = ByteBuffer.allocateDirect(INITIAL_SCRATCH_CAPACITY);
+
+    static ByteBuffer encodedMessage(String message) {
+        return ENCODED_MESSAGES.computeIfAbsent(message, m -> {
+            byte[] bytes = m.getBytes(UTF_8);
+            return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer();
+        });
+    }
+
+    @Override
+    public void writeMessage(String message) {
+        enqueue(encodedMessage(message).duplicate());
+    }
+
+    @Override
+    public void writeText(CharSequence text) {
+        int start = this.scratch.position();
+        CharBuffer chars = CharBuffer.wrap(text);
+        this.encoder.reset();
+        while (this.encoder.encode(chars, this.scratch, true).isOverflow()) {
+            start = growScratch(start, chars.remaining() * 3);
+        }
+        while (this.encoder.flush(this.scratch).isOverflow()) {
+            start = growScratch(start, 4);
+        }
+        enqueueScratch(start);
+    }
+
+    @Override
+    public void writeEncoded(EncodedText text) {
+        byte[] bytes = text.utf8();
+        int start = this.scratch.position();
+        if (this.scratch.remaining() < bytes.length) {
+            start = growScratch(start, bytes.length);
+        }
+        this.scratch.put(bytes);
+        enqueueScratch(start);
+    }
+
+    @Override
+    public void writeNumber(int number) {
+        int start = this.scratch.position();
+        if (this.scratch.remaining() < 11) {
+            start = growScratch(start, 11);
+        }
+        long value = number;
+        if (value < 0) {
+            this.scratch.put((byte) '-');
+            value = -value;
+        }
+        int digitsStart = this.scratch.position();
+        do {
+            this.scratch.put((byte) ('0' + value % 10));
+            value /= 10;
+        } while (value != 0);
+        for (int i = digitsStart, j = this.scratch.position() - 1; i < j; i++, j--) {
+            byte b = this.scratch.get(i);
+            this.scratch.put(i, this.scratch.get(j));
+            this.scratch.put(j, b);
+        }
+        enqueueScratch(start);
+    }
+
+    boolean hasPending() {
+        return this.head < this.tail;
+    }
+
+    /**
+     * 대기 중인 출력을 가능한 만큼 쓴다. 모두 썼으면 {@code true} 를 반환한다.
+     */
+    boolean writeTo(GatheringByteChannel channel) throws IOException {
+        while (this.head < this.tail) {
+            long written = channel.write(this.pending, this.head, this.tail - this.head);
+            while (this.head < this.tail && !this.pending[this.head].hasRemaining()) {
+                this.pending[this.head++] = null;
+            }
+            if (written == 0) {
+                return false;
+            }
+        }
+        this.head = 0;
+        this.tail = 0;
+        this.scratch.clear();
+        return true;
+    }
+
+    private void enqueueScratch(int start) {
+        ByteBuffer segment = this.scratch.duplicate();
+        segment.position(start).limit(this.scratch.position());
+        enqueue(segment);
+    }
+
+    private void enqueue(ByteBuffer buffer) {
+        if (this.tail == this.pending.length) {
+            if (this.head > 0) {
+                System.arraycopy(this.pending, this.head, this.pending, 0, this.tail - this.head);
+                Arrays.fill(this.pending, this.tail - this.head, this.tail, null);
+                this.tail -= this.head;
+                this.head = 0;
+            } else {
+                this.pending = Arrays.copyOf(this.pending, this.pending.length * 2);
+            }
+        }
+        this.pending[this.tail++] = buffer;
+    }
+
+    // 대기열에 들어간 기존 조각은 이전 버퍼의 뷰를 그대로 유지하므로 새 버퍼에는 작성 중인 조각만 옮긴다.
+    private int growScratch(int start, int required) {
+        int length = this.scratch.position() - start;
+        int capacity = Math.max(this.scratch.capacity() * 2, length + required);
+        ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+        grown.put(this.scratch.duplicate().position(start).limit(start + length));
+        this.scratch = grown;
+        return 0;
+    }
+}
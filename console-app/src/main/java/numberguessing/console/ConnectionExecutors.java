@@ -0,0 +1,45 @@
+package numberguessing.console;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 연결마다 스레드 하나를 쓰는 실행기를 만든다.
+ * <p>
+ * 런타임이 가상 스레드를 지원하면(JDK 21+) {@code Executors.newVirtualThreadPerTaskExecutor()} 를 사용하고,
+ * 그렇지 않으면 플랫폼 스레드를 쓰는 캐시 스레드 풀로 대체한다. 빌드 대상은 JDK 17 이므로 리플렉션으로 찾는다.
+ */
+final class ConnectionExecutors {
+
+    private static final MethodHandle VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    private ConnectionExecutors() {
+    }
+
+    static boolean virtualThreadsAvailable() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    static ExecutorService newThreadPerConnectionExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR == null) {
+            return Executors.newCachedThreadPool();
+        }
+        try {
+            return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not create virtual thread executor", e);
+        }
+    }
+
+    private static MethodHandle findVirtualThreadExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
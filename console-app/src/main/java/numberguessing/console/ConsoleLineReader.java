@@ -0,0 +1,108 @@
+package numberguessing.console;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * {@link InputStream} 을 바이트 단위로 읽어 줄을 나누는 리더. 줄을 문자열로 디코딩하지 않고 버퍼의 구간으로 돌려주므로
+ * {@link AppModel#processInput(byte[], int, int)} 에 그대로 넘길 수 있다.
+ * <p>
+ * 줄 끝은 {@code \n} 또는 {@code \r\n} 이며 줄바꿈 없이 끝나는 마지막 줄도 한 줄로 읽는다. 버퍼보다 긴 줄을 만나면 버퍼를
+ * 늘린다. 동기화하지 않으므로 한 스레드에서만 사용해야 한다.
+ */
+final class ConsoleLineReader {
+
+    private final InputStream input;
+    private byte[] buffer;
+    private int position;
+    private int limit;
+    private int scanned;
+    private boolean endOfInput;
+    private int lineStart;
+    private int lineLength;
+
+    ConsoleLineReader(InputStream input, int bufferSize) {
+        this.input = input;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * 읽지 않은 완전한 줄이 이미 버퍼에 있어 {@link #readLine()} 이 입력을 기다리지 않는지 반환한다.
+     */
+    boolean hasBufferedLine() {
+        return findNewline() >= 0 || (this.endOfInput && this.position < this.limit);
+    }
+
+    /**
+     * 다음 줄을 읽는다. 읽은 줄은 {@link #buffer()} 의 {@link #lineStart()} 부터 {@link #lineLength()} 바이트이며
+     * 다음 호출 전까지만 유효하다.
+     *
+     * @return 입력이 끝나 더 읽을 줄이 없으면 {@code false}
+     */
+    boolean readLine() throws IOException {
+        int newline;
+        while ((newline = findNewline()) < 0) {
+            if (this.endOfInput) {
+                if (this.position == this.limit) {
+                    return false;
+                }
+                return takeLine(this.limit, this.limit);
+            }
+            fill();
+        }
+        int lineEnd = newline > this.position && this.buffer[newline - 1] == '\r' ? newline - 1 : newline;
+        return takeLine(lineEnd, newline + 1);
+    }
+
+    byte[] buffer() {
+        return this.buffer;
+    }
+
+    int lineStart() {
+        return this.lineStart;
+    }
+
+    int lineLength() {
+        return this.lineLength;
+    }
+
+    private boolean takeLine(int lineEnd, int next) {
+        this.lineStart = this.position;
+        this.lineLength = lineEnd - this.position;
+        this.position = next;
+        this.scanned = next;
+        return true;
+    }
+
+    // 이미 훑은 구간은 다시 훑지 않는다.
+    private int findNewline() {
+        for (int i = this.scanned; i < this.limit; i++) {
+            if (this.buffer[i] == '\n') {
+                this.scanned = i;
+                return i;
+            }
+        }
+        this.scanned = this.limit;
+        return -1;
+    }
+
+    private void fill() throws IOException {
+        if (this.position > 0) {
+            int remaining = this.limit - this.position;
+            System.arraycopy(this.buffer, this.position, this.buffer, 0, remaining);
+            this.scanned -= this.position;
+            this.limit = remaining;
+            this.position = 0;
+        }
+        if (this.limit == this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+        }
+        int read = this.input.read(this.buffer, this.limit, this.buffer.length - this.limit);
+        if (read < 0) {
+            this.endOfInput = true;
+        } else {
+            this.limit += read;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package numberguessing.console;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 출력을 큰 바이트 버퍼에 모았다가 {@link #flush()} 할 때만 스트림에 쓰는 {@link OutputSink}.
+ * <p>
+ * {@link java.io.PrintStream} 과 달리 잠금도 자동 flush 도 없다. 고정 메시지는 한 번만 인코딩하며, 버퍼가 차면 그때까지
+ * 모은 출력을 쓰고 계속한다. 한 스레드에서만 사용해야 한다.
+ */
+final class ConsoleOutputBuffer implements OutputSink {
+
+    private final OutputStream target;
+    private final byte[] buffer;
+    private final HashMap<String, byte[]> encodedMessages = new HashMap<>();
+    private int size;
+
+    ConsoleOutputBuffer(OutputStream target, int bufferSize) {
+        this.target = target;
+        this.buffer = new byte[bufferSize];
+    }
+
+    @Override
+    public void writeMessage(String message) {
+        write(this.encodedMessages.computeIfAbsent(message, m -> m.getBytes(UTF_8)));
+    }
+
+    @Override
+    public void writeText(CharSequence text) {
+        write(text.toString().getBytes(UTF_8));
+    }
+
+    @Override
+    public void writeEncoded(EncodedText text) {
+        write(text.utf8());
+    }
+
+    @Override
+    public void writeNumber(int number) {
+        if (this.buffer.length - this.size < 11) {
+            drain();
+        }
+        long value = number;
+        if (value < 0) {
+            this.buffer[this.size++] = '-';
+            value = -value;
+        }
+        int digitsStart = this.size;
+        do {
+            this.buffer[this.size++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        for (int i = digitsStart, j = this.size - 1; i < j; i++, j--) {
+            byte b = this.buffer[i];
+            this.buffer[i] = this.buffer[j];
+            this.buffer[j] = b;
+        }
+    }
+
+    /**
+     * 모은 출력을 스트림에 쓰고 스트림을 flush 한다.
+     */
+    void flush() {
+        drain();
+        try {
+            this.target.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(byte[] bytes) {
+        if (bytes.length > this.buffer.length - this.size) {
+            drain();
+            if (bytes.length > this.buffer.length) {
+                writeThrough(bytes, 0, bytes.length);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+        this.size += bytes.length;
+    }
+
+    private void drain() {
+        writeThrough(this.buffer, 0, this.size);
+        this.size = 0;
+    }
+
+    private void writeThrough(byte[] bytes, int offset, int length) {
+        try {
+            this.target.write(bytes, offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
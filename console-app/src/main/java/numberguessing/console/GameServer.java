@@ -0,0 +1,94 @@
+package numberguessing.console;
+
+import numberguessing.RandomGenerator;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * TCP 로 게임을 제공하는 서버. 연결마다 (가능하면 가상) 스레드 하나가 자신만의 {@link AppModel} 을 진행한다.
+ * <p>
+ * 프로토콜은 콘솔과 같다. 서버는 {@link AppModel#flushOutput()} 결과 뒤에 줄바꿈을 붙여 보내고,
+ * 클라이언트는 한 줄씩 입력을 보낸다.
+ */
+public class GameServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 7777;
+
+    private static final int BACKLOG = 4096;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor;
+
+    public GameServer(int port) throws IOException {
+        this.serverSocket = new ServerSocket(port, BACKLOG);
+        this.executor = ConnectionExecutors.newThreadPerConnectionExecutor();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        try (GameServer server = new GameServer(port)) {
+            System.out.printf("Listening on port %d (%s threads)%n", server.getPort(),
+                    ConnectionExecutors.virtualThreadsAvailable() ? "virtual" : "platform");
+            server.serve();
+        }
+    }
+
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    public void serve() throws IOException {
+        while (!this.serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = this.serverSocket.accept();
+            } catch (IOException e) {
+                if (this.serverSocket.isClosed()) {
+                    return;
+                }
+                throw e;
+            }
+            this.executor.execute(() -> handle(socket));
+        }
+    }
+
+    private static void handle(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+            var writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), UTF_8));
+            runLoop(new AppModel(new RandomGenerator()), reader, writer);
+        } catch (IOException e) {
+            // 연결이 끊어지면 그 연결의 게임만 버린다.
+        }
+    }
+
+    private static void runLoop(AppModel model, BufferedReader reader, Writer writer) throws IOException {
+        while (!model.isCompleted()) {
+            writer.write(model.flushOutput());
+            writer.write('\n');
+            writer.flush();
+            String line = reader.readLine();
+            if (line == null) {
+                return;
+            }
+            model.processInput(line);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.serverSocket.close();
+        this.executor.shutdownNow();
+    }
+}
@@ -0,0 +1,37 @@
+package numberguessing.console;
+
+import numberguessing.journal.JournalReader;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * {@link numberguessing.journal.EventJournal} 디렉터리의 턴 기록을 처음부터 한 줄에 하나씩 출력한다.
+ * {@code --follow} 를 주면 끝에 도달한 뒤에도 새 기록을 기다리며 계속 출력한다.
+ * <pre>
+ * JournalTailApp &lt;journal directory&gt; [--follow]
+ * </pre>
+ */
+public class JournalTailApp {
+
+    private static final long FOLLOW_INTERVAL_MILLIS = 100;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1 || args.length > 2 || (args.length == 2 && !"--follow".equals(args[1]))) {
+            System.err.println("Usage: JournalTailApp <journal directory> [--follow]");
+            System.exit(1);
+        }
+        boolean follow = args.length == 2;
+        PrintStream out = System.out;
+        try (var reader = new JournalReader(Path.of(args[0]))) {
+            do {
+                if (reader.poll((timestamp, sessionId, mode, guess, result) -> out.printf("%s session=%d %s guess=%d %s%n",
+                        Instant.ofEpochMilli(timestamp), sessionId, mode, guess, result)) == 0 && follow) {
+                    Thread.sleep(FOLLOW_INTERVAL_MILLIS);
+                }
+            } while (follow);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package numberguessing.console;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * {@link GameServer} 에 다수의 연결을 열어 싱글 플레이 게임을 이진 탐색으로 진행하고, 턴 지연 시간의 분포를 출력한다.
+ * <p>
+ * 턴 지연 시간은 추측값을 보낸 시점부터 다음 입력 프롬프트를 받을 때까지의 시간이다.
+ * <pre>
+ * LoadTestClient [host] [port] [connections] [games per connection]
+ * </pre>
+ */
+public class LoadTestClient {
+
+    private static final String SELECTION_PROMPT = "Enter selection: ";
+    private static final String GUESS_PROMPT = "Enter your guess: ";
+
+    public static void main(String[] args) throws Exception {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int games = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+        ExecutorService executor = ConnectionExecutors.newThreadPerConnectionExecutor();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return play(host, port, games);
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        long[] latencies = collect(futures);
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+
+        Arrays.sort(latencies);
+        System.out.printf("connections=%d games=%d turns=%d elapsed=%d ms throughput=%d turns/s%n",
+                connections, connections * games, latencies.length, elapsed / 1_000_000,
+                latencies.length * 1_000_000_000L / Math.max(elapsed, 1));
+        System.out.printf("turn latency p50=%d us p99=%d us max=%d us%n",
+                percentile(latencies, 0.50) / 1_000, percentile(latencies, 0.99) / 1_000,
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1_000);
+    }
+
+    private static long[] collect(List<Future<long[]>> futures) throws InterruptedException, ExecutionException {
+        long[][] parts = new long[futures.size()][];
+        int total = 0;
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = futures.get(i).get();
+            total += parts[i].length;
+        }
+        long[] all = new long[total];
+        int position = 0;
+        for (long[] part : parts) {
+            System.arraycopy(part, 0, all, position, part.length);
+            position += part.length;
+        }
+        return all;
+    }
+
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    // 한 연결에서 games 번의 게임을 진행하고 각 턴의 지연 시간(ns)을 반환한다.
+    private static long[] play(String host, int port, int games) {
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+            var writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), UTF_8));
+            long[] latencies = new long[games * 8];
+            int turns = 0;
+
+            readUntilPrompt(reader);
+            for (int game = 0; game < games; game++) {
+                send(writer, "1");
+                readUntilPrompt(reader);
+                int low = 1;
+                int high = 100;
+                while (true) {
+                    int guess = (low + high) >>> 1;
+                    long sent = System.nanoTime();
+                    send(writer, Integer.toString(guess));
+                    String feedback = readUntilPrompt(reader);
+                    if (turns == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, turns * 2);
+                    }
+                    latencies[turns++] = System.nanoTime() - sent;
+                    if (feedback.startsWith("Correct!")) {
+                        break;
+                    } else if (feedback.contains("too low")) {
+                        low = guess + 1;
+                    } else {
+                        high = guess - 1;
+                    }
+                }
+            }
+            send(writer, "3");
+            return Arrays.copyOf(latencies, turns);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void send(BufferedWriter writer, String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+        writer.flush();
+    }
+
+    // 다음 입력 프롬프트까지 읽고, 프롬프트 앞의 첫 줄(결과 메시지)을 반환한다.
+    private static String readUntilPrompt(BufferedReader reader) throws IOException {
+        String first = null;
+        while (true) {
+            String line = reader.readLine();
+            if (line == null) {
+                throw new IOException("Connection closed by server");
+            }
+            if (line.isEmpty()) {
+                continue;
+            }
+            if (first == null) {
+                first = line;
+            }
+            if (line.equals(GUESS_PROMPT) || line.equals(SELECTION_PROMPT)) {
+                return first;
+            }
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package numberguessing.console;
+
+import numberguessing.RandomGenerator;
+import numberguessing.journal.EventJournal;
+import numberguessing.journal.JournalListener;
+import numberguessing.leaderboard.Leaderboard;
+import numberguessing.replay.TrafficRecorder;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 하나의 {@link Selector} 이벤트 루프로 모든 연결을 처리하는 논블로킹 게임 서버. 프로토콜은 {@link GameServer} 와 같다.
+ * <p>
+ * 소켓에서 읽은 바이트는 문자열로 디코딩하지 않고 줄 단위 구간 그대로 {@link AppModel#processInput(byte[], int, int)} 에
+ * 전달한다. 출력은 {@link ChannelOutputSink} 가 미리 인코딩된 메시지 버퍼로 모아 gathering write 로 내보낸다.
+ * 출력이 다 나가기 전에는 그 연결의 입력을 더 읽지 않고, 게임이 끝난 연결은 마지막 출력이 다 나간 뒤에 닫는다.
+ * 연결을 받거나 처리하거나 닫다가 생긴 오류는 그 연결만 끊고 이벤트 루프는 계속 돈다.
+ * <p>
+ * 저널 디렉터리를 지정하면 모든 턴을 연결 번호와 함께 {@link EventJournal} 에 기록한다. 멀티 플레이 게임의 승자는
+ * 서버의 {@link Leaderboard} 에 기록한다.
+ * <p>
+ * 기록 파일을 지정하면 연결마다 시드를 정한 정답 생성기를 쓰고, 연결이 끝날 때 시드와 입력을 {@link TrafficRecorder} 로
+ * 기록한다. 기록은 {@link TrafficReplayApp} 으로 재생한다. 저널 없이 기록만 하려면 저널 디렉터리에 {@code -} 를 준다.
+ * <pre>
+ * NioGameServer [port] [journal directory|-] [recording file]
+ * </pre>
+ */
+public class NioGameServer implements AutoCloseable {
+
+    private static final int MAX_LINE_LENGTH = 4096;
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final EventJournal journal;
+    private final TrafficRecorder recorder;
+    private final Leaderboard leaderboard = new Leaderboard();
+    private long nextConnectionId;
+    private volatile boolean stopping;
+
+    public NioGameServer(int port) throws IOException {
+        this(port, null);
+    }
+
+    /**
+     * @param journal 턴을 기록할 저널. {@code null} 이면 기록하지 않는다.
+     */
+    public NioGameServer(int port, EventJournal journal) throws IOException {
+        this(port, journal, null);
+    }
+
+    /**
+     * @param recorder 연결을 기록할 기록기. {@code null} 이면 기록하지 않는다. 서버를 닫으면 함께 닫는다.
+     */
+    public NioGameServer(int port, EventJournal journal, TrafficRecorder recorder) throws IOException {
+        this.journal = journal;
+        this.recorder = recorder;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(new InetSocketAddress(port), 4096);
+        this.serverChannel.configureBlocking(false);
+        this.serverChannel.register(this.selector, SelectionKey.OP_ACCEPT);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : GameServer.DEFAULT_PORT;
+        EventJournal journal = args.length > 1 && !args[1].equals("-") ? new EventJournal(Path.of(args[1])) : null;
+        TrafficRecorder recorder = args.length > 2 ? new TrafficRecorder(Files.newOutputStream(Path.of(args[2]))) : null;
+        NioGameServer server = new NioGameServer(port, journal, recorder);
+        CountDownLatch closed = new CountDownLatch(1);
+        // 서버는 보통 시그널로 끝나므로, 그때도 이벤트 루프 스레드가 연결과 저널, 기록을 정리하고 닫을 때까지 기다린다.
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            try {
+                closed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        try {
+            System.out.printf("Listening on port %d (selector)%n", server.getPort());
+            server.serve();
+        } finally {
+            server.close();
+            closed.countDown();
+        }
+    }
+
+    public Leaderboard leaderboard() {
+        return this.leaderboard;
+    }
+
+    public int getPort() {
+        return this.serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * {@link #serve()} 가 지금 처리 중인 이벤트까지만 처리하고 돌아오게 한다. 어느 스레드에서든 호출할 수 있다.
+     * 연결은 그 뒤 {@link #close()} 가 닫는다.
+     */
+    public void stop() {
+        this.stopping = true;
+        this.selector.wakeup();
+    }
+
+    public void serve() throws IOException {
+        try {
+            while (this.selector.isOpen() && !this.stopping) {
+                this.selector.select();
+                var keys = this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            connection.handle(key);
+                        } catch (IOException | RuntimeException e) {
+                            // 입출력 오류나 처리할 수 없는 입력은 그 연결만 끊는다.
+                            connection.close(key);
+                        }
+                    }
+                }
+            }
+        } catch (ClosedSelectorException e) {
+            // close() 로 종료됨
+        }
+    }
+
+    // 첫 출력은 OP_WRITE 로 등록해 두고 다음 select 에서 내보낸다.
+    private void accept() {
+        SocketChannel channel;
+        try {
+            channel = this.serverChannel.accept();
+        } catch (IOException e) {
+            // 파일 디스크립터가 모자라는 등으로 받지 못한 연결만 버린다.
+            System.err.println("Failed to accept connection: " + e);
+            return;
+        }
+        if (channel == null) {
+            return;
+        }
+        SelectionKey key;
+        try {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            key = channel.register(this.selector, SelectionKey.OP_WRITE);
+        } catch (IOException e) {
+            System.err.println("Failed to accept connection: " + e);
+            closeQuietly(channel);
+            return;
+        }
+        GameListener listener = this.journal != null
+                ? GameListener.of(new JournalListener(this.journal, this.nextConnectionId++), this.leaderboard)
+                : this.leaderboard;
+        Connection connection = new Connection(channel, listener,
+                this.recorder != null ? this.recorder.startSession() : null);
+        connection.output.writeMessage(LINE_SEPARATOR);
+        key.attach(connection);
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // 이미 끊어진 연결
+        }
+    }
+
+    /**
+     * 모든 연결을 닫고 저널과 기록기를 닫는다. 기록 중인 연결은 그때까지의 입력으로 기록된다. {@link #serve()} 를 실행하는
+     * 스레드에서, 또는 {@link #serve()} 가 끝난 뒤에 호출해야 한다.
+     */
+    @Override
+    public void close() throws IOException {
+        for (SelectionKey key : this.selector.keys()) {
+            if (key.attachment() instanceof Connection connection) {
+                connection.close(key);
+            } else {
+                key.channel().close();
+            }
+        }
+        this.selector.close();
+        if (this.journal != null) {
+            this.journal.close();
+        }
+        if (this.recorder != null) {
+            this.recorder.close();
+        }
+    }
+
+    private static final class Connection {
+
+        private final SocketChannel channel;
+        private final ByteBuffer input = ByteBuffer.allocate(MAX_LINE_LENGTH);
+        private final ChannelOutputSink output = new ChannelOutputSink();
+        private final AppModel model;
+        private final TrafficRecorder.Session recording;
+        private boolean closeAfterFlush;
+
+        Connection(SocketChannel channel, GameListener listener, TrafficRecorder.Session recording) {
+            this.channel = channel;
+            this.recording = recording;
+            this.model = recording != null
+                    ? recording.newModel(this.output, listener)
+                    : new AppModel(new RandomGenerator(), this.output, listener);
+        }
+
+        void handle(SelectionKey key) throws IOException {
+            if (key.isWritable()) {
+                flush(key);
+            } else if (key.isReadable()) {
+                read(key);
+            }
+        }
+
+        private void read(SelectionKey key) throws IOException {
+            if (this.channel.read(this.input) < 0) {
+                close(key);
+                return;
+            }
+            byte[] bytes = this.input.array();
+            int lineStart = 0;
+            int end = this.input.position();
+            for (int i = 0; i < end && !this.model.isCompleted(); i++) {
+                if (bytes[i] == '\n') {
+                    int lineEnd = i > lineStart && bytes[i - 1] == '\r' ? i - 1 : i;
+                    this.model.processInput(bytes, lineStart, lineEnd - lineStart);
+                    if (this.recording != null) {
+                        this.recording.inputProcessed(bytes, lineStart, lineEnd - lineStart);
+                    }
+                    if (!this.model.isCompleted()) {
+                        this.output.writeMessage(LINE_SEPARATOR);
+                    }
+                    lineStart = i + 1;
+                }
+            }
+            if (this.model.isCompleted()) {
+                this.closeAfterFlush = true;
+                flush(key);
+                return;
+            }
+            this.input.position(lineStart).limit(end);
+            this.input.compact();
+            if (!this.input.hasRemaining()) {
+                // 한 줄이 입력 버퍼보다 길면 연결을 끊는다.
+                close(key);
+                return;
+            }
+            flush(key);
+        }
+
+        void flush(SelectionKey key) throws IOException {
+            if (!this.output.writeTo(this.channel)) {
+                key.interestOps(SelectionKey.OP_WRITE);
+            } else if (this.closeAfterFlush) {
+                close(key);
+            } else {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        /**
+         * 연결을 닫고 기록을 마친다. 기록 파일에 쓰지 못해도 예외를 던지지 않으므로 다른 연결은 계속 처리된다.
+         */
+        void close(SelectionKey key) {
+            key.cancel();
+            closeQuietly(this.channel);
+            if (this.recording != null) {
+                try {
+                    this.recording.finish();
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("Failed to record connection: " + e);
+                }
+            }
+        }
+    }
+}
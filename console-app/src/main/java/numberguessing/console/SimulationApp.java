@@ -0,0 +1,38 @@
+package numberguessing.console;
+
+import numberguessing.SplittableRandomGenerator;
+import numberguessing.simulation.GuessDistribution;
+import numberguessing.simulation.GuessingStrategies;
+import numberguessing.simulation.Simulator;
+
+/**
+ * 전략별로 많은 게임을 병렬로 시뮬레이션하고 추측 횟수 분포와 게임당 비용을 출력한다.
+ * <pre>
+ * SimulationApp [games per strategy] [seed]
+ * </pre>
+ */
+public class SimulationApp {
+
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        var simulator = new Simulator(batch -> new SplittableRandomGenerator(seed ^ batch), seed);
+
+        System.out.printf("games=%d seed=%d parallelism=%d%n", games, seed,
+                Runtime.getRuntime().availableProcessors());
+        for (GuessingStrategies strategy : GuessingStrategies.values()) {
+            long started = System.nanoTime();
+            GuessDistribution distribution = simulator.run(strategy, games);
+            long elapsed = System.nanoTime() - started;
+            System.out.printf("%-13s mean=%.2f p50=%d p99=%d max=%d games/s=%d ns/game=%d%n", strategy,
+                    distribution.mean(), distribution.percentile(0.5), distribution.percentile(0.99),
+                    distribution.max(), games * 1_000_000_000L / Math.max(elapsed, 1), elapsed / Math.max(games, 1));
+            for (int guesses = 1; guesses <= distribution.max(); guesses++) {
+                long count = distribution.count(guesses);
+                if (count != 0) {
+                    System.out.printf("  %3d guesses: %d%n", guesses, count);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package numberguessing.console;
+
+import numberguessing.replay.ReplayReport;
+import numberguessing.replay.SessionRecording;
+import numberguessing.replay.TrafficReplayer;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * {@link NioGameServer} 가 기록한 트래픽을 여러 스레드에서 다시 돌려 출력이 기록과 같은지 확인하고 처리량을 출력한다.
+ * 첫 라운드는 워밍업이다. 출력이 다른 세션이 있으면 종료 코드 1 로 끝난다.
+ * <pre>
+ * TrafficReplayApp &lt;recording file&gt; [threads] [rounds]
+ * </pre>
+ */
+public class TrafficReplayApp {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: TrafficReplayApp <recording file> [threads] [rounds]");
+            System.exit(1);
+        }
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        List<SessionRecording> sessions;
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(Path.of(args[0])))) {
+            sessions = SessionRecording.readAll(input);
+        }
+
+        var replayer = new TrafficReplayer(threads);
+        boolean matches = true;
+        for (int round = 0; round < rounds; round++) {
+            ReplayReport report = replayer.replay(sessions);
+            System.out.printf("%s sessions=%d inputs=%d threads=%d elapsed=%d ms inputs/s=%d sessions/s=%d mismatches=%d%n",
+                    round == 0 ? "warmup " : "round " + round, report.sessions(), report.inputs(), report.threads(),
+                    report.elapsedNanos() / 1_000_000, (long) report.inputsPerSecond(),
+                    (long) report.sessionsPerSecond(), report.mismatches());
+            for (ReplayReport.Mismatch mismatch : report.sampledMismatches()) {
+                System.out.printf("  session %d: output differs at input %d%n", mismatch.session(), mismatch.input());
+            }
+            matches &= report.matches();
+        }
+        if (!matches) {
+            System.exit(1);
+        }
+    }
+}
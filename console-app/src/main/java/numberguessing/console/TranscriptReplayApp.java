@@ -0,0 +1,177 @@
+package numberguessing.console;
+
+import numberguessing.PositiveIntegerGenerator;
+import numberguessing.RandomGenerator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 기록된 게임 입력 파일을 스트리밍으로 재생하고 집계 결과를 출력한다. 파일 크기와 상관없이 일정한 메모리만 사용한다.
+ * <p>
+ * 파일은 빈 줄로 구분된 transcript 들로 이루어지며, 각 줄은 한 번의 입력이다. transcript 의 첫 줄이
+ * {@code answers: 50 17} 형태이면 그 순서대로 정답을 생성하고, 없으면 무작위 정답을 사용한다.
+ * 줄은 문자열로 만들지 않고 읽기 버퍼의 바이트 구간 그대로 {@link AppModel} 에 전달한다.
+ * <pre>
+ * TranscriptReplayApp &lt;transcript file&gt;
+ * </pre>
+ */
+public class TranscriptReplayApp {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final byte[] ANSWERS_HEADER = "answers:".getBytes();
+
+    private final ReplayStatistics statistics = new ReplayStatistics();
+    private final ReplayAnswers answers = new ReplayAnswers();
+    private AppModel model;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: TranscriptReplayApp <transcript file>");
+            System.exit(1);
+        }
+        var app = new TranscriptReplayApp();
+        long started = System.nanoTime();
+        app.replay(Path.of(args[0]));
+        long elapsed = System.nanoTime() - started;
+        app.statistics.print(elapsed);
+    }
+
+    void replay(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            byte[] bytes = buffer.array();
+            while (channel.read(buffer) >= 0 || buffer.position() > 0) {
+                int end = buffer.position();
+                int lineStart = 0;
+                for (int i = 0; i < end; i++) {
+                    if (bytes[i] == '\n') {
+                        int lineEnd = i > lineStart && bytes[i - 1] == '\r' ? i - 1 : i;
+                        processLine(bytes, lineStart, lineEnd - lineStart);
+                        lineStart = i + 1;
+                    }
+                }
+                if (lineStart == 0 && end == bytes.length) {
+                    throw new IOException("Line longer than %d bytes".formatted(BUFFER_SIZE));
+                }
+                if (lineStart == end || channel.position() < channel.size()) {
+                    buffer.position(lineStart).limit(end);
+                    buffer.compact();
+                    continue;
+                }
+                // 줄바꿈 없이 끝나는 마지막 줄
+                processLine(bytes, lineStart, end - lineStart);
+                buffer.clear();
+            }
+        }
+        finishTranscript();
+    }
+
+    private void processLine(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            finishTranscript();
+            return;
+        }
+        if (this.model == null) {
+            PositiveIntegerGenerator generator;
+            if (startsWith(bytes, offset, length, ANSWERS_HEADER)) {
+                this.answers.parse(bytes, offset + ANSWERS_HEADER.length, length - ANSWERS_HEADER.length);
+                generator = this.answers;
+            } else {
+                generator = new RandomGenerator();
+            }
+            this.model = new AppModel(generator, OutputSink.discard(), this.statistics);
+            if (generator == this.answers) {
+                return;
+            }
+        }
+        if (!this.model.isCompleted()) {
+            this.model.processInput(bytes, offset, length);
+        }
+    }
+
+    private void finishTranscript() {
+        if (this.model != null) {
+            this.statistics.transcriptFinished(this.model.isCompleted());
+            this.model = null;
+        }
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, int length, byte[] prefix) {
+        return length >= prefix.length
+                && Arrays.equals(bytes, offset, offset + prefix.length, prefix, 0, prefix.length);
+    }
+
+    private static final class ReplayAnswers implements PositiveIntegerGenerator {
+
+        private long[] numbers = new long[16];
+        private int count;
+        private int index;
+
+        void parse(byte[] bytes, int offset, int length) {
+            this.count = 0;
+            this.index = 0;
+            long value = -1;
+            for (int i = offset; i <= offset + length; i++) {
+                byte b = i < offset + length ? bytes[i] : (byte) ' ';
+                if (b >= '0' && b <= '9') {
+                    value = (value < 0 ? 0 : value * 10) + (b - '0');
+                } else if (value >= 0) {
+                    if (this.count == this.numbers.length) {
+                        this.numbers = Arrays.copyOf(this.numbers, this.count * 2);
+                    }
+                    this.numbers[this.count++] = value;
+                    value = -1;
+                }
+            }
+            if (this.count == 0) {
+                throw new IllegalArgumentException("Transcript header has no answers");
+            }
+        }
+
+        @Override
+        public long generate(long lowerBound, long upperBound) {
+            long number = this.numbers[this.index];
+            this.index = (this.index + 1) % this.count;
+            return number;
+        }
+    }
+
+    private static final class ReplayStatistics implements GameListener {
+
+        private long transcripts;
+        private long completedTranscripts;
+        private final long[] games = new long[GameMode.values().length];
+        private final long[] guesses = new long[GameMode.values().length];
+        private final long[] maxGuesses = new long[GameMode.values().length];
+
+        @Override
+        public void gameFinished(GameResult result) {
+            int mode = result.mode().ordinal();
+            this.games[mode]++;
+            this.guesses[mode] += result.guesses();
+            this.maxGuesses[mode] = Math.max(this.maxGuesses[mode], result.guesses());
+        }
+
+        void transcriptFinished(boolean completed) {
+            this.transcripts++;
+            if (completed) {
+                this.completedTranscripts++;
+            }
+        }
+
+        void print(long elapsedNanos) {
+            System.out.printf("transcripts=%d completed=%d elapsed=%d ms%n",
+                    this.transcripts, this.completedTranscripts, elapsedNanos / 1_000_000);
+            for (GameMode mode : GameMode.values()) {
+                int i = mode.ordinal();
+                System.out.printf("%s: games=%d guesses=%d mean=%.2f max=%d%n", mode, this.games[i], this.guesses[i],
+                        this.games[i] == 0 ? 0.0 : (double) this.guesses[i] / this.games[i], this.maxGuesses[i]);
+            }
+        }
+    }
+}